@@ -1,11 +1,19 @@
 package org.bito.concert.controller;
 
+import org.bito.concert.dto.ConcertResponse;
+import org.bito.concert.dto.ConcertSourceResponse;
+import org.bito.concert.dto.PriceComparisonResponse;
+import org.bito.concert.dto.PriceHistoryResponse;
+import org.bito.concert.dto.ScrapeResponse;
+import org.bito.concert.history.PriceHistoryService;
 import org.bito.concert.model.Concert;
 import org.bito.concert.service.ConcertScraperService;
+import org.bito.concert.service.ScrapeCoordinator;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/concerts")
@@ -13,9 +21,14 @@ import java.util.List;
 public class ConcertController {
 
     private final ConcertScraperService scraperService;
+    private final PriceHistoryService priceHistoryService;
+    private final Optional<ScrapeCoordinator> scrapeCoordinator;
 
-    public ConcertController(ConcertScraperService scraperService) {
+    public ConcertController(ConcertScraperService scraperService, PriceHistoryService priceHistoryService,
+                             Optional<ScrapeCoordinator> scrapeCoordinator) {
         this.scraperService = scraperService;
+        this.priceHistoryService = priceHistoryService;
+        this.scrapeCoordinator = scrapeCoordinator;
     }
 
     /**
@@ -23,10 +36,21 @@ public class ConcertController {
      * GET /api/concerts/scrape
      *
      * 주의: Chrome과 ChromeDriver 필요, 5-10초 소요
+     * 클러스터 모드에서는 새 라운드만 요청하고 현재 저장된 콘서트를 반환합니다.
      */
     @GetMapping("/scrape")
     public ResponseEntity<ScrapeResponse> scrapeConcerts() {
-        List<Concert> concerts = scraperService.scrapeConcerts();
+        if (scrapeCoordinator.isPresent()) {
+            int shards = scrapeCoordinator.get().requestRound();
+            List<ConcertResponse> concerts = scraperService.getAllConcerts();
+            return ResponseEntity.ok(new ScrapeResponse(
+                "크롤링 요청 완료 (샤드 " + shards + "개)",
+                concerts.size(),
+                concerts
+            ));
+        }
+
+        List<ConcertResponse> concerts = toResponses(scraperService.scrapeConcerts());
         return ResponseEntity.ok(new ScrapeResponse(
             "크롤링 완료",
             concerts.size(),
@@ -40,7 +64,7 @@ public class ConcertController {
      */
     @GetMapping("/scrape/sample")
     public ResponseEntity<ScrapeResponse> scrapeSampleConcerts() {
-        List<Concert> concerts = scraperService.scrapeSampleConcerts();
+        List<ConcertResponse> concerts = toResponses(scraperService.scrapeSampleConcerts());
         return ResponseEntity.ok(new ScrapeResponse(
             "샘플 데이터 로드 완료",
             concerts.size(),
@@ -53,8 +77,8 @@ public class ConcertController {
      * GET /api/concerts/cheap
      */
     @GetMapping("/cheap")
-    public ResponseEntity<List<Concert>> getCheapConcerts() {
-        List<Concert> concerts = scraperService.getCheapConcerts();
+    public ResponseEntity<List<ConcertResponse>> getCheapConcerts() {
+        List<ConcertResponse> concerts = scraperService.getCheapConcerts();
         return ResponseEntity.ok(concerts);
     }
 
@@ -63,45 +87,46 @@ public class ConcertController {
      * GET /api/concerts
      */
     @GetMapping
-    public ResponseEntity<List<Concert>> getAllConcerts() {
-        List<Concert> concerts = scraperService.getAllConcerts();
+    public ResponseEntity<List<ConcertResponse>> getAllConcerts() {
+        List<ConcertResponse> concerts = scraperService.getAllConcerts();
         return ResponseEntity.ok(concerts);
     }
 
-    // Response DTO
-    public static class ScrapeResponse {
-        private String message;
-        private int count;
-        private List<Concert> concerts;
-
-        public ScrapeResponse(String message, int count, List<Concert> concerts) {
-            this.message = message;
-            this.count = count;
-            this.concerts = concerts;
-        }
-
-        public String getMessage() {
-            return message;
-        }
-
-        public void setMessage(String message) {
-            this.message = message;
-        }
-
-        public int getCount() {
-            return count;
-        }
+    /**
+     * 한 번이라도 maxPrice 이하였던 콘서트 (현재 가격 vs 역대 최저가)
+     * GET /api/concerts/cheap/history?maxPrice=10000
+     */
+    @GetMapping("/cheap/history")
+    public ResponseEntity<List<PriceComparisonResponse>> getHistoricallyCheapConcerts(
+            @RequestParam(defaultValue = "10000") int maxPrice) {
+        return ResponseEntity.ok(priceHistoryService.getHistoricallyCheapConcerts(maxPrice));
+    }
 
-        public void setCount(int count) {
-            this.count = count;
-        }
+    /**
+     * 콘서트 가격 변동 이력
+     * GET /api/concerts/{id}/price-history
+     */
+    @GetMapping("/{id}/price-history")
+    public ResponseEntity<PriceHistoryResponse> getPriceHistory(@PathVariable Long id) {
+        return priceHistoryService.getHistory(id)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
 
-        public List<Concert> getConcerts() {
-            return concerts;
-        }
+    /**
+     * 대표 콘서트에 병합된 원본 수집 항목
+     * GET /api/concerts/{id}/sources
+     */
+    @GetMapping("/{id}/sources")
+    public ResponseEntity<List<ConcertSourceResponse>> getSources(@PathVariable Long id) {
+        return scraperService.getSources(id)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
 
-        public void setConcerts(List<Concert> concerts) {
-            this.concerts = concerts;
-        }
+    private List<ConcertResponse> toResponses(List<Concert> concerts) {
+        return concerts.stream()
+            .map(ConcertResponse::from)
+            .toList();
     }
 }
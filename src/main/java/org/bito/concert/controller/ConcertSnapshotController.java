@@ -0,0 +1,81 @@
+package org.bito.concert.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.bito.concert.dto.SnapshotImportResponse;
+import org.bito.concert.snapshot.ConcertSnapshotService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+@RestController
+@RequestMapping("/api/concerts/snapshot")
+@CrossOrigin(origins = "*")
+public class ConcertSnapshotController {
+
+    // Tomcat NIO 커넥터의 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ConcertSnapshotService snapshotService;
+
+    public ConcertSnapshotController(ConcertSnapshotService snapshotService) {
+        this.snapshotService = snapshotService;
+    }
+
+    /**
+     * 카탈로그 스냅샷 내보내기
+     * GET /api/concerts/snapshot
+     *
+     * Tomcat이 sendfile을 지원하면 파일을 커널에서 소켓으로 바로 전송(zero-copy)하고,
+     * 아니면 FileChannel.transferTo로 응답 스트림에 복사합니다.
+     */
+    @GetMapping
+    public void exportSnapshot(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path snapshot = snapshotService.export();
+        long size = Files.size(snapshot);
+
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + snapshot.getFileName() + "\"");
+        response.setContentLengthLong(size);
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, snapshot.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, out);
+            }
+        }
+    }
+
+    /**
+     * 스냅샷으로 카탈로그 전체 교체
+     * POST /api/concerts/snapshot (Content-Type: application/octet-stream)
+     *
+     * curl -X POST --data-binary @catalog.snap -H "Content-Type: application/octet-stream" \
+     *   http://localhost:8080/api/concerts/snapshot
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<SnapshotImportResponse> importSnapshot(HttpServletRequest request) throws IOException {
+        long count = snapshotService.importSnapshot(request.getInputStream());
+        return ResponseEntity.ok(new SnapshotImportResponse("스냅샷 가져오기 완료", count));
+    }
+}
@@ -0,0 +1,60 @@
+package org.bito.concert.controller;
+
+import org.bito.concert.dto.AggregateResponse;
+import org.bito.concert.service.ConcertAggregateService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/concerts/stats")
+@CrossOrigin(origins = "*")
+public class ConcertStatsController {
+
+    private final ConcertAggregateService aggregateService;
+
+    public ConcertStatsController(ConcertAggregateService aggregateService) {
+        this.aggregateService = aggregateService;
+    }
+
+    /**
+     * 일별 콘서트 수 (달력용)
+     * GET /api/concerts/stats/daily?from=2025-11-01&to=2025-11-30
+     */
+    @GetMapping("/daily")
+    public ResponseEntity<List<AggregateResponse>> getDaily(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(aggregateService.getDaily(from, to));
+    }
+
+    /**
+     * 주별 콘서트 수 (ISO 주차, 예: 2025-W44)
+     * GET /api/concerts/stats/weekly
+     */
+    @GetMapping("/weekly")
+    public ResponseEntity<List<AggregateResponse>> getWeekly() {
+        return ResponseEntity.ok(aggregateService.getWeekly());
+    }
+
+    /**
+     * 가격대별 콘서트 수 (무료, 1만원 이하, 3만원 이하, ...)
+     * GET /api/concerts/stats/price-buckets
+     */
+    @GetMapping("/price-buckets")
+    public ResponseEntity<List<AggregateResponse>> getPriceBuckets() {
+        return ResponseEntity.ok(aggregateService.getPriceBuckets());
+    }
+
+    /**
+     * 장소별 콘서트 수
+     * GET /api/concerts/stats/venues
+     */
+    @GetMapping("/venues")
+    public ResponseEntity<List<AggregateResponse>> getVenues() {
+        return ResponseEntity.ok(aggregateService.getVenues());
+    }
+}
@@ -0,0 +1,184 @@
+package org.bito.concert.dedup;
+
+import org.bito.concert.model.Concert;
+import org.bito.concert.model.ConcertSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 여러 소스/목록 페이지에서 수집된 콘서트 중복 제거
+ *
+ * 1. 제목/장소 정규화
+ * 2. 날짜 + 장소로 블로킹 (같은 블록 안에서만 후보 비교)
+ * 3. 제목 shingle의 MinHash 서명을 LSH 밴드로 버킷팅
+ * 4. 같은 버킷에 들어온 항목만 유사도 검증 후 병합
+ *
+ * 모든 쌍을 비교하지 않으므로 항목 수에 거의 선형으로 동작합니다.
+ */
+@Component
+public class ConcertDeduplicator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcertDeduplicator.class);
+
+    private static final int SHINGLE_SIZE = 3;
+    // 16 밴드 x 4 행: 유사도 약 0.5 부근에서 후보로 잡힐 확률이 급격히 올라갑니다
+    private static final int BANDS = 16;
+    private static final int ROWS_PER_BAND = 4;
+    private static final double SIMILARITY_THRESHOLD = 0.5;
+    private static final long SEED = 0x5eed_c0de_2025L;
+
+    private static final String PLACEHOLDER_ARTIST = "Various";
+    private static final String PLACEHOLDER_VENUE = "인터파크 티켓";
+
+    private final MinHasher minHasher = new MinHasher(BANDS * ROWS_PER_BAND, SEED);
+
+    /**
+     * 중복 항목을 대표 콘서트로 병합
+     * 반환되는 각 콘서트는 병합된 원본 항목을 sources로 가집니다.
+     */
+    public List<Concert> deduplicate(List<Concert> concerts) {
+        List<List<Concert>> groups = group(concerts);
+
+        List<Concert> merged = new ArrayList<>(groups.size());
+        for (List<Concert> group : groups) {
+            merged.add(merge(group));
+        }
+
+        logger.info("Deduplicated {} concerts into {} canonical records", concerts.size(), merged.size());
+        return merged;
+    }
+
+    /**
+     * 같은 공연으로 판단된 항목끼리 묶음 (중복이 없는 항목은 크기 1 그룹, 입력 순서 유지)
+     */
+    public List<List<Concert>> group(List<Concert> concerts) {
+        int n = concerts.size();
+        int[] parent = new int[n];
+        int[][] signatures = new int[n][];
+        String[] blockKeys = new String[n];
+
+        for (int i = 0; i < n; i++) {
+            Concert concert = concerts.get(i);
+            parent[i] = i;
+            blockKeys[i] = concert.getDate() + "|" + TextNormalizer.normalizeVenue(concert.getVenue());
+            signatures[i] = minHasher.signature(
+                TextNormalizer.shingles(TextNormalizer.normalizeTitle(concert.getTitle()), SHINGLE_SIZE));
+        }
+
+        // 밴드 버킷 -> 버킷에 들어온 모든 항목 인덱스
+        // 첫 항목만 기억하면 첫 항목과는 다르지만 서로 비슷한 뒤 항목들이 비교되지 않으므로 전부 유지
+        Map<BandKey, List<Integer>> buckets = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            for (int band = 0; band < BANDS; band++) {
+                BandKey key = new BandKey(blockKeys[i], band,
+                    Arrays.hashCode(Arrays.copyOfRange(signatures[i], band * ROWS_PER_BAND, (band + 1) * ROWS_PER_BAND)));
+                List<Integer> members = buckets.computeIfAbsent(key, k -> new ArrayList<>());
+                for (int member : members) {
+                    if (find(parent, member) != find(parent, i)
+                            && MinHasher.similarity(signatures[member], signatures[i]) >= SIMILARITY_THRESHOLD) {
+                        union(parent, member, i);
+                    }
+                }
+                members.add(i);
+            }
+        }
+
+        Map<Integer, List<Concert>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < n; i++) {
+            groups.computeIfAbsent(find(parent, i), k -> new ArrayList<>()).add(concerts.get(i));
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    /**
+     * 그룹에서 정보가 가장 많은 항목을 대표로 삼고, 빠진 값은 다른 항목에서 보충
+     */
+    public Concert merge(List<Concert> group) {
+        Concert representative = group.get(0);
+        for (Concert candidate : group) {
+            if (completeness(candidate) > completeness(representative)) {
+                representative = candidate;
+            }
+        }
+
+        Concert canonical = new Concert(
+            representative.getTitle(),
+            representative.getArtist(),
+            representative.getVenue(),
+            representative.getDate(),
+            representative.getPrice(),
+            representative.getUrl(),
+            representative.getSource()
+        );
+        canonical.setEndDate(representative.getEndDate());
+        canonical.setMaxPrice(representative.getMaxPrice());
+        canonical.setShard(representative.getShard());
+
+        for (Concert member : group) {
+            if (isPlaceholderArtist(canonical.getArtist()) && !isPlaceholderArtist(member.getArtist())) {
+                canonical.setArtist(member.getArtist());
+            }
+            if (canonical.getPrice() == null && member.getPrice() != null) {
+                canonical.setPrice(member.getPrice());
+                canonical.setMaxPrice(member.getMaxPrice());
+            }
+            if (canonical.getEndDate() == null && member.getEndDate() != null) {
+                canonical.setEndDate(member.getEndDate());
+            }
+            if (member.getSources().isEmpty()) {
+                canonical.addSource(new ConcertSource(member));
+            } else {
+                // 이미 병합된 대표 레코드를 다시 병합하는 경우 원본 항목을 그대로 옮김
+                for (ConcertSource source : member.getSources()) {
+                    canonical.addSource(new ConcertSource(source.toConcert()));
+                }
+            }
+        }
+
+        return canonical;
+    }
+
+    private int completeness(Concert concert) {
+        int score = 0;
+        if (!isPlaceholderArtist(concert.getArtist())) {
+            score++;
+        }
+        if (concert.getVenue() != null && !concert.getVenue().isEmpty() && !PLACEHOLDER_VENUE.equals(concert.getVenue())) {
+            score++;
+        }
+        if (concert.getPrice() != null && concert.getPrice() > 0) {
+            score++;
+        }
+        if (concert.getUrl() != null && !concert.getUrl().isEmpty()) {
+            score++;
+        }
+        return score;
+    }
+
+    private boolean isPlaceholderArtist(String artist) {
+        return artist == null || artist.isEmpty() || PLACEHOLDER_ARTIST.equals(artist);
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) {
+            // 먼저 들어온 항목을 루트로 유지해 결과 순서를 안정적으로 유지
+            parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+        }
+    }
+
+    private record BandKey(String blockKey, int band, int hash) {
+    }
+}
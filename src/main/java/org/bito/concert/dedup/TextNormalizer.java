@@ -0,0 +1,56 @@
+package org.bito.concert.dedup;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 중복 비교용 제목/장소 정규화
+ */
+public final class TextNormalizer {
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * 제목 정규화: 전각/반각 통일, 소문자화, 기호 제거, 공백 정리
+     * "[서울] 아이유 콘서트 <HER>" -> "서울 아이유 콘서트 her"
+     */
+    public static String normalizeTitle(String title) {
+        if (title == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(title, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return normalized.replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+    }
+
+    /**
+     * 장소 정규화: 띄어쓰기 차이를 무시하기 위해 공백까지 모두 제거
+     * "올림픽공원 체조경기장" / "올림픽 공원체조경기장" -> "올림픽공원체조경기장"
+     */
+    public static String normalizeVenue(String venue) {
+        if (venue == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(venue, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return normalized.replaceAll("[^\\p{L}\\p{N}]+", "");
+    }
+
+    /**
+     * 정규화된 제목의 문자 k-gram 집합
+     * 한글 제목은 띄어쓰기가 들쭉날쭉하므로 공백을 제거한 뒤 문자 단위로 자릅니다.
+     */
+    public static Set<String> shingles(String normalizedTitle, int k) {
+        String compact = normalizedTitle.replace(" ", "");
+        Set<String> shingles = new LinkedHashSet<>();
+        if (compact.length() <= k) {
+            shingles.add(compact);
+            return shingles;
+        }
+        for (int i = 0; i + k <= compact.length(); i++) {
+            shingles.add(compact.substring(i, i + k));
+        }
+        return shingles;
+    }
+}
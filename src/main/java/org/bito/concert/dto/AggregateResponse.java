@@ -0,0 +1,7 @@
+package org.bito.concert.dto;
+
+/**
+ * 집계 응답 (구간별 전체/무료/저렴한 콘서트 수)
+ */
+public record AggregateResponse(String bucket, long total, long free, long cheap) {
+}
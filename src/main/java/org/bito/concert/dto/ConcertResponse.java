@@ -0,0 +1,47 @@
+package org.bito.concert.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.bito.concert.model.Concert;
+
+import java.time.LocalDate;
+
+/**
+ * API 응답용 콘서트 (읽기 전용)
+ * 조회 API는 JPQL 생성자 표현식으로 이 레코드를 바로 만들어 엔티티를 영속성 컨텍스트에 올리지 않습니다.
+ */
+public record ConcertResponse(
+    Long id,
+    String title,
+    String artist,
+    String venue,
+    LocalDate date,
+    LocalDate endDate,
+    Integer price,
+    Integer maxPrice,
+    String url,
+    String source
+) {
+
+    public static ConcertResponse from(Concert concert) {
+        return new ConcertResponse(
+            concert.getId(),
+            concert.getTitle(),
+            concert.getArtist(),
+            concert.getVenue(),
+            concert.getDate(),
+            concert.getEndDate(),
+            concert.getPrice(),
+            concert.getMaxPrice(),
+            concert.getUrl(),
+            concert.getSource()
+        );
+    }
+
+    /**
+     * 엔티티를 직렬화하던 기존 응답과 같은 필드를 유지
+     */
+    @JsonProperty("freeOrCheap")
+    public boolean isFreeOrCheap() {
+        return price != null && price <= Concert.CHEAP_PRICE_THRESHOLD;
+    }
+}
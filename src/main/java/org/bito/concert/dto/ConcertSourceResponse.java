@@ -0,0 +1,19 @@
+package org.bito.concert.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 대표 콘서트에 병합된 원본 수집 항목 (읽기 전용)
+ */
+public record ConcertSourceResponse(
+    String title,
+    String artist,
+    String venue,
+    LocalDate date,
+    LocalDate endDate,
+    Integer price,
+    Integer maxPrice,
+    String url,
+    String source
+) {
+}
@@ -0,0 +1,7 @@
+package org.bito.concert.dto;
+
+/**
+ * 현재 가격과 역대 최저/최고 가격 비교
+ */
+public record PriceComparisonResponse(ConcertResponse concert, Integer currentPrice, int lowestPrice, int highestPrice) {
+}
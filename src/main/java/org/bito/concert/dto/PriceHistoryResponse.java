@@ -0,0 +1,12 @@
+package org.bito.concert.dto;
+
+import org.bito.concert.history.PriceObservation;
+import org.bito.concert.history.PriceSummary;
+
+import java.util.List;
+
+/**
+ * 콘서트 가격 변동 이력 응답 (이력이 없으면 summary는 null)
+ */
+public record PriceHistoryResponse(ConcertResponse concert, PriceSummary summary, List<PriceObservation> history) {
+}
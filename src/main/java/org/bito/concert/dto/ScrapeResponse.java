@@ -0,0 +1,9 @@
+package org.bito.concert.dto;
+
+import java.util.List;
+
+/**
+ * 크롤링 결과 응답
+ */
+public record ScrapeResponse(String message, int count, List<ConcertResponse> concerts) {
+}
@@ -0,0 +1,7 @@
+package org.bito.concert.dto;
+
+/**
+ * 스냅샷 가져오기 결과 응답
+ */
+public record SnapshotImportResponse(String message, long count) {
+}
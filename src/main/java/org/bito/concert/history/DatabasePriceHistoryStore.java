@@ -0,0 +1,116 @@
+package org.bito.concert.history;
+
+import org.bito.concert.model.PriceChange;
+import org.bito.concert.model.PriceHistorySummary;
+import org.bito.concert.repository.PriceChangeRepository;
+import org.bito.concert.repository.PriceHistorySummaryRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 가격 변동 이력 저장소 (공유 DB, 클러스터 모드)
+ *
+ * 모든 인스턴스가 같은 price_changes / price_history_summaries 테이블에 기록하므로
+ * 어느 인스턴스에서 조회해도 같은 이력이 보입니다.
+ * 호출한 쪽(샤드 수집)의 트랜잭션에 참여해 콘서트 저장과 함께 커밋/롤백됩니다.
+ */
+@Component
+@ConditionalOnProperty(name = "concert.cluster.enabled", havingValue = "true")
+public class DatabasePriceHistoryStore implements PriceHistoryStore {
+
+    private final PriceChangeRepository changeRepository;
+    private final PriceHistorySummaryRepository summaryRepository;
+    private final TransactionTemplate newTransaction;
+
+    public DatabasePriceHistoryStore(PriceChangeRepository changeRepository,
+                                     PriceHistorySummaryRepository summaryRepository,
+                                     PlatformTransactionManager transactionManager) {
+        this.changeRepository = changeRepository;
+        this.summaryRepository = summaryRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 요약 행을 잠근 뒤 직전 가격과 비교해 바뀐 경우에만 기록
+     */
+    @Override
+    @Transactional
+    public boolean append(String key, Instant observedAt, int price) {
+        if (!summaryRepository.existsById(key)) {
+            createSummary(key);
+        }
+
+        PriceHistorySummary summary = summaryRepository.findForUpdate(key)
+            .orElseThrow(() -> new IllegalStateException("Missing price history summary: " + key));
+        if (summary.getChanges() > 0 && summary.getLastPrice() == price) {
+            return false;
+        }
+
+        summary.update(observedAt, price);
+        changeRepository.save(new PriceChange(key, observedAt, price));
+        return true;
+    }
+
+    /**
+     * 커밋 시 함께 반영되므로 따로 할 일이 없음
+     */
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PriceSummary> getSummary(String key) {
+        return summaryRepository.findById(key)
+            .filter(summary -> summary.getChanges() > 0)
+            .map(DatabasePriceHistoryStore::toPriceSummary);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, PriceSummary> getSummaries(Collection<String> keys) {
+        Map<String, PriceSummary> summaries = new HashMap<>();
+        for (PriceHistorySummary summary : summaryRepository.findAllById(keys)) {
+            if (summary.getChanges() > 0) {
+                summaries.put(summary.getHistoryKey(), toPriceSummary(summary));
+            }
+        }
+        return summaries;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PriceObservation> getHistory(String key) {
+        return changeRepository.findObservations(key);
+    }
+
+    /**
+     * 빈 요약 행을 별도 트랜잭션으로 먼저 커밋
+     * 다른 인스턴스가 동시에 만들었으면 키 중복으로 실패하며, 어느 쪽이든 이후 행 잠금으로 순서가 정해집니다.
+     */
+    private void createSummary(String key) {
+        try {
+            newTransaction.executeWithoutResult(status -> summaryRepository.create(key));
+        } catch (DataIntegrityViolationException e) {
+            // 이미 생성됨
+        }
+    }
+
+    private static PriceSummary toPriceSummary(PriceHistorySummary summary) {
+        return new PriceSummary(summary.getLowestPrice(), summary.getHighestPrice(), summary.getLastPrice(),
+            summary.getFirstSeenAt(), summary.getLastChangedAt(), summary.getChanges());
+    }
+}
@@ -0,0 +1,125 @@
+package org.bito.concert.history;
+
+import org.bito.concert.dedup.TextNormalizer;
+import org.bito.concert.dto.ConcertResponse;
+import org.bito.concert.dto.PriceComparisonResponse;
+import org.bito.concert.dto.PriceHistoryResponse;
+import org.bito.concert.model.Concert;
+import org.bito.concert.repository.ConcertRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 콘서트 가격 변동 이력 기록/조회
+ *
+ * 콘서트 id는 크롤링할 때마다 새로 발급되므로 상품 URL(없으면 정규화된 제목+날짜+장소)을 키로 사용합니다.
+ */
+@Service
+public class PriceHistoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PriceHistoryService.class);
+
+    private final PriceHistoryStore priceHistoryStore;
+    private final ConcertRepository concertRepository;
+
+    public PriceHistoryService(PriceHistoryStore priceHistoryStore, ConcertRepository concertRepository) {
+        this.priceHistoryStore = priceHistoryStore;
+        this.concertRepository = concertRepository;
+    }
+
+    /**
+     * 크롤링 결과의 가격 기록 (가격이 바뀐 콘서트만 저장됨)
+     * 클러스터 모드에서는 호출한 쪽의 트랜잭션 안에서 DB에 기록됩니다.
+     */
+    public void record(List<Concert> concerts) {
+        Instant now = Instant.now();
+        int changed = 0;
+
+        try {
+            for (Concert concert : concerts) {
+                if (concert.getPrice() == null) {
+                    continue;
+                }
+                String key = historyKey(concert.getUrl(), concert.getTitle(), concert.getVenue(), concert.getDate());
+                if (priceHistoryStore.append(key, now, concert.getPrice())) {
+                    changed++;
+                }
+            }
+            priceHistoryStore.flush();
+        } catch (IOException e) {
+            // 이력 기록 실패가 크롤링 결과 저장을 막지 않도록 로그만 남김
+            logger.error("Error recording price history", e);
+        }
+
+        logger.info("Recorded {} price changes out of {} concerts", changed, concerts.size());
+    }
+
+    /**
+     * 콘서트 하나의 가격 변동 이력
+     */
+    @Transactional(readOnly = true)
+    public Optional<PriceHistoryResponse> getHistory(Long concertId) {
+        return concertRepository.findResponseById(concertId).map(concert -> {
+            String key = historyKey(concert);
+            try {
+                return new PriceHistoryResponse(
+                    concert,
+                    priceHistoryStore.getSummary(key).orElse(null),
+                    priceHistoryStore.getHistory(key)
+                );
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * 한 번이라도 maxPrice 이하였던 콘서트 (역대 최저가순)
+     * 콘서트별 요약만 읽으므로 누적된 크롤링 횟수와 무관하게 콘서트 수만큼만 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<PriceComparisonResponse> getHistoricallyCheapConcerts(int maxPrice) {
+        List<ConcertResponse> concerts = concertRepository.findAllOrderByDate();
+        Map<String, PriceSummary> summaries = priceHistoryStore.getSummaries(
+            concerts.stream().map(PriceHistoryService::historyKey).collect(Collectors.toSet()));
+
+        List<PriceComparisonResponse> result = new ArrayList<>();
+        for (ConcertResponse concert : concerts) {
+            PriceSummary summary = summaries.get(historyKey(concert));
+            if (summary != null && summary.lowestPrice() <= maxPrice) {
+                result.add(new PriceComparisonResponse(
+                    concert,
+                    concert.price(),
+                    summary.lowestPrice(),
+                    summary.highestPrice()
+                ));
+            }
+        }
+        result.sort(Comparator.comparingInt(PriceComparisonResponse::lowestPrice));
+        return result;
+    }
+
+    private static String historyKey(ConcertResponse concert) {
+        return historyKey(concert.url(), concert.title(), concert.venue(), concert.date());
+    }
+
+    private static String historyKey(String url, String title, String venue, LocalDate date) {
+        if (url != null && !url.isEmpty()) {
+            return url;
+        }
+        return TextNormalizer.normalizeTitle(title) + "|" + date + "|" + TextNormalizer.normalizeVenue(venue);
+    }
+}
@@ -0,0 +1,48 @@
+package org.bito.concert.history;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 가격 변동 이력 저장소
+ *
+ * 가격이 바뀐 경우에만 관측을 추가하고, 콘서트별 최저/최고/최근 가격 요약을 추가할 때마다 갱신합니다.
+ * - 단일 인스턴스: {@link SegmentPriceHistoryStore} (로컬 append-only 세그먼트 파일)
+ * - 클러스터 모드: {@link DatabasePriceHistoryStore} (공유 DB, 수집 트랜잭션 안에서 기록)
+ */
+public interface PriceHistoryStore {
+
+    /**
+     * 가격 관측 기록 (직전 가격과 같으면 무시)
+     * @return 새 레코드를 추가했으면 true
+     */
+    boolean append(String key, Instant observedAt, int price) throws IOException;
+
+    /**
+     * 버퍼에 쌓인 기록을 저장소에 반영
+     */
+    void flush() throws IOException;
+
+    Optional<PriceSummary> getSummary(String key);
+
+    /**
+     * 여러 콘서트의 요약 (이력이 없는 키는 빠짐)
+     */
+    default Map<String, PriceSummary> getSummaries(Collection<String> keys) {
+        Map<String, PriceSummary> summaries = new HashMap<>();
+        for (String key : keys) {
+            getSummary(key).ifPresent(summary -> summaries.put(key, summary));
+        }
+        return summaries;
+    }
+
+    /**
+     * 콘서트 하나의 가격 변동 이력 (시간순)
+     */
+    List<PriceObservation> getHistory(String key) throws IOException;
+}
@@ -0,0 +1,9 @@
+package org.bito.concert.history;
+
+import java.time.Instant;
+
+/**
+ * 가격 관측 레코드 (가격이 바뀐 시점)
+ */
+public record PriceObservation(Instant observedAt, int price) {
+}
@@ -0,0 +1,16 @@
+package org.bito.concert.history;
+
+import java.time.Instant;
+
+/**
+ * 콘서트별 가격 이력 요약
+ */
+public record PriceSummary(
+    int lowestPrice,
+    int highestPrice,
+    int lastPrice,
+    Instant firstSeenAt,
+    Instant lastChangedAt,
+    int changes
+) {
+}
@@ -0,0 +1,326 @@
+package org.bito.concert.history;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 가격 변동 이력 저장소 (append-only 세그먼트 파일, 단일 인스턴스 모드)
+ *
+ * 디렉터리 구성
+ * - keys.dat: 콘서트 키 사전 (등장 순서가 곧 키 번호)
+ * - segment-00000.dat ...: 헤더(매직, 버전) + 16바이트 고정 길이 레코드 (키 번호, 관측 시각, 가격)
+ * - store.lock: 디렉터리를 쓰는 프로세스를 하나로 제한하는 잠금 파일
+ *
+ * 가격이 바뀐 경우에만 레코드를 추가합니다. 시작 시 세그먼트를 메모리 매핑해 한 번 훑어
+ * 콘서트별 최저/최고/최근 가격 요약과 레코드 위치 색인을 만들고, 이후에는 추가할 때마다 갱신합니다.
+ *
+ * 키 번호와 요약이 프로세스 메모리에 있으므로 두 프로세스가 같은 디렉터리를 쓰면 키 사전이 깨집니다.
+ * 잠금을 얻지 못하면 시작에 실패하며, 클러스터 모드에서는 {@link DatabasePriceHistoryStore}를 사용합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "concert.cluster.enabled", havingValue = "false", matchIfMissing = true)
+public class SegmentPriceHistoryStore implements PriceHistoryStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(SegmentPriceHistoryStore.class);
+
+    private static final int MAGIC = 0x50524943; // "PRIC"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int RECORD_SIZE = 16;
+
+    private final Path directory;
+    private final int recordsPerSegment;
+
+    private final Map<String, Integer> keyIds = new HashMap<>();
+    private final List<Summary> summaries = new ArrayList<>();
+    // 키별 레코드 위치: (세그먼트 번호 << 32) | 세그먼트 내 오프셋
+    private final List<long[]> positions = new ArrayList<>();
+    private final List<Integer> positionCounts = new ArrayList<>();
+    // 가득 찬 세그먼트는 읽기 전용 매핑을 재사용
+    private final List<MappedByteBuffer> sealedSegments = new ArrayList<>();
+
+    private FileChannel lockChannel;
+    private FileLock lock;
+    private DataOutputStream keyOutput;
+    private FileChannel activeSegment;
+    private int activeSegmentIndex;
+    private int activeRecords;
+
+    public SegmentPriceHistoryStore(@Value("${concert.history.dir:./data/price-history}") String directory,
+                                    @Value("${concert.history.segment-records:1000000}") int recordsPerSegment) throws IOException {
+        this.directory = Path.of(directory);
+        this.recordsPerSegment = recordsPerSegment;
+        Files.createDirectories(this.directory);
+        lock();
+        load();
+    }
+
+    @Override
+    public synchronized boolean append(String key, Instant observedAt, int price) throws IOException {
+        Integer keyId = keyIds.get(key);
+        if (keyId == null) {
+            keyId = registerKey(key);
+        } else if (summaries.get(keyId).last == price) {
+            return false;
+        }
+
+        if (activeRecords >= recordsPerSegment) {
+            rollSegment();
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE);
+        buffer.putInt(keyId).putLong(observedAt.toEpochMilli()).putInt(price).flip();
+        long offset = HEADER_SIZE + (long) activeRecords * RECORD_SIZE;
+        while (buffer.hasRemaining()) {
+            activeSegment.write(buffer, offset + buffer.position());
+        }
+        activeRecords++;
+
+        index(keyId, activeSegmentIndex, (int) offset, observedAt.toEpochMilli(), price);
+        return true;
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        keyOutput.flush();
+        activeSegment.force(false);
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        flush();
+        keyOutput.close();
+        activeSegment.close();
+        lock.release();
+        lockChannel.close();
+    }
+
+    @Override
+    public synchronized Optional<PriceSummary> getSummary(String key) {
+        Integer keyId = keyIds.get(key);
+        return keyId == null ? Optional.empty() : Optional.of(summaries.get(keyId).toPriceSummary());
+    }
+
+    /**
+     * 위치 색인으로 해당 콘서트 레코드만 읽으므로 전체 이력 크기와 무관합니다.
+     */
+    @Override
+    public synchronized List<PriceObservation> getHistory(String key) throws IOException {
+        Integer keyId = keyIds.get(key);
+        if (keyId == null) {
+            return List.of();
+        }
+
+        long[] keyPositions = positions.get(keyId);
+        int count = positionCounts.get(keyId);
+        List<PriceObservation> history = new ArrayList<>(count);
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE);
+
+        for (int i = 0; i < count; i++) {
+            int segment = (int) (keyPositions[i] >>> 32);
+            int offset = (int) keyPositions[i];
+
+            ByteBuffer source;
+            if (segment < sealedSegments.size()) {
+                source = sealedSegments.get(segment).slice(offset, RECORD_SIZE);
+            } else {
+                buffer.clear();
+                while (buffer.hasRemaining() && activeSegment.read(buffer, offset + buffer.position()) > 0) {
+                }
+                source = buffer.flip();
+            }
+
+            source.getInt(); // 키 번호
+            long observedAt = source.getLong();
+            int price = source.getInt();
+            history.add(new PriceObservation(Instant.ofEpochMilli(observedAt), price));
+        }
+        return history;
+    }
+
+    private void lock() throws IOException {
+        lockChannel = FileChannel.open(directory.resolve("store.lock"),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            lock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // 같은 JVM 안에서 이미 열려 있는 경우
+            lock = null;
+        }
+        if (lock == null) {
+            lockChannel.close();
+            throw new IllegalStateException("Price history directory is used by another process: " + directory);
+        }
+    }
+
+    private void load() throws IOException {
+        Path keysFile = directory.resolve("keys.dat");
+        if (Files.exists(keysFile)) {
+            try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(keysFile)))) {
+                while (true) {
+                    String key;
+                    try {
+                        key = input.readUTF();
+                    } catch (EOFException e) {
+                        break;
+                    }
+                    addKey(key);
+                }
+            }
+        }
+        keyOutput = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(keysFile,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND)));
+
+        int segment = 0;
+        long records = 0;
+        while (Files.exists(segmentPath(segment + 1))) {
+            records += scanSegment(segment, true);
+            segment++;
+        }
+        activeSegmentIndex = segment;
+        if (Files.exists(segmentPath(segment))) {
+            activeRecords = scanSegment(segment, false);
+            records += activeRecords;
+            activeSegment = FileChannel.open(segmentPath(segment), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } else {
+            activeSegment = createSegment(segment);
+            activeRecords = 0;
+        }
+
+        logger.info("Loaded price history: {} concerts, {} observations in {} segments",
+            keyIds.size(), records, activeSegmentIndex + 1);
+    }
+
+    /**
+     * 세그먼트를 메모리 매핑해 순차 스캔하며 요약/색인 복원
+     */
+    private int scanSegment(int segment, boolean sealed) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(segment), StandardOpenOption.READ)) {
+            // 기록 도중 중단되어 남은 불완전한 레코드는 무시
+            long usable = HEADER_SIZE + (channel.size() - HEADER_SIZE) / RECORD_SIZE * RECORD_SIZE;
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, usable);
+
+            if (mapped.getInt() != MAGIC || mapped.getInt() != VERSION) {
+                throw new IOException("Unsupported price history segment: " + segmentPath(segment));
+            }
+
+            int records = 0;
+            while (mapped.remaining() >= RECORD_SIZE) {
+                int offset = mapped.position();
+                int keyId = mapped.getInt();
+                long observedAt = mapped.getLong();
+                int price = mapped.getInt();
+                records++;
+                if (keyId >= summaries.size()) {
+                    // 키 사전에 반영되기 전에 중단된 경우
+                    logger.warn("Skipping price observation with unknown key {} in {}", keyId, segmentPath(segment));
+                    continue;
+                }
+                index(keyId, segment, offset, observedAt, price);
+            }
+
+            if (sealed) {
+                sealedSegments.add(mapped);
+            }
+            return records;
+        }
+    }
+
+    private void rollSegment() throws IOException {
+        activeSegment.force(false);
+        long size = activeSegment.size();
+        sealedSegments.add(activeSegment.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        activeSegment.close();
+
+        activeSegmentIndex++;
+        activeSegment = createSegment(activeSegmentIndex);
+        activeRecords = 0;
+    }
+
+    private FileChannel createSegment(int segment) throws IOException {
+        FileChannel channel = FileChannel.open(segmentPath(segment),
+            StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        return channel;
+    }
+
+    private int registerKey(String key) throws IOException {
+        // 세그먼트 레코드보다 키가 먼저 디스크에 있어야 재시작 시 복원 가능
+        keyOutput.writeUTF(key);
+        keyOutput.flush();
+        return addKey(key);
+    }
+
+    private int addKey(String key) {
+        int keyId = summaries.size();
+        keyIds.put(key, keyId);
+        summaries.add(new Summary());
+        positions.add(new long[4]);
+        positionCounts.add(0);
+        return keyId;
+    }
+
+    private void index(int keyId, int segment, int offset, long observedAt, int price) {
+        summaries.get(keyId).update(observedAt, price);
+
+        long[] keyPositions = positions.get(keyId);
+        int count = positionCounts.get(keyId);
+        if (count == keyPositions.length) {
+            keyPositions = Arrays.copyOf(keyPositions, count * 2);
+            positions.set(keyId, keyPositions);
+        }
+        keyPositions[count] = ((long) segment << 32) | offset;
+        positionCounts.set(keyId, count + 1);
+    }
+
+    private Path segmentPath(int segment) {
+        return directory.resolve(String.format("segment-%05d.dat", segment));
+    }
+
+    /**
+     * 콘서트별 누적 요약 (추가할 때마다 O(1) 갱신)
+     */
+    private static class Summary {
+        private int min = Integer.MAX_VALUE;
+        private int max = Integer.MIN_VALUE;
+        private int last = -1;
+        private long firstSeen;
+        private long lastChanged;
+        private int changes;
+
+        void update(long observedAt, int price) {
+            if (changes == 0) {
+                firstSeen = observedAt;
+            }
+            min = Math.min(min, price);
+            max = Math.max(max, price);
+            last = price;
+            lastChanged = observedAt;
+            changes++;
+        }
+
+        PriceSummary toPriceSummary() {
+            return new PriceSummary(min, max, last,
+                Instant.ofEpochMilli(firstSeen), Instant.ofEpochMilli(lastChanged), changes);
+        }
+    }
+}
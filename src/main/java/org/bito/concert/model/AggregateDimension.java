@@ -0,0 +1,11 @@
+package org.bito.concert.model;
+
+/**
+ * 집계 기준
+ */
+public enum AggregateDimension {
+    DAY,
+    WEEK,
+    PRICE_BUCKET,
+    VENUE
+}
@@ -2,11 +2,16 @@ package org.bito.concert.model;
 
 import jakarta.persistence.*;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
 @Table(name = "concerts")
 public class Concert {
 
+    // 저렴한 콘서트 기준 가격 (이하)
+    public static final int CHEAP_PRICE_THRESHOLD = 10000;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -15,10 +20,19 @@ public class Concert {
     private String artist;
     private String venue;
     private LocalDate date;
+    private LocalDate endDate;
     private Integer price;
+    private Integer maxPrice;
     private String url;
     private String source;
 
+    // 이 항목을 수집한 목록 페이지 (클러스터 모드의 샤드 URL)
+    @Column(length = 1000)
+    private String shard;
+
+    @OneToMany(mappedBy = "concert", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<ConcertSource> sources = new ArrayList<>();
+
     public Concert() {
     }
 
@@ -73,6 +87,14 @@ public class Concert {
         this.date = date;
     }
 
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
     public Integer getPrice() {
         return price;
     }
@@ -81,6 +103,14 @@ public class Concert {
         this.price = price;
     }
 
+    public Integer getMaxPrice() {
+        return maxPrice;
+    }
+
+    public void setMaxPrice(Integer maxPrice) {
+        this.maxPrice = maxPrice;
+    }
+
     public String getUrl() {
         return url;
     }
@@ -97,7 +127,31 @@ public class Concert {
         this.source = source;
     }
 
+    public String getShard() {
+        return shard;
+    }
+
+    public void setShard(String shard) {
+        this.shard = shard;
+    }
+
+    public List<ConcertSource> getSources() {
+        return sources;
+    }
+
+    public void setSources(List<ConcertSource> sources) {
+        this.sources = sources;
+    }
+
+    /**
+     * 병합된 원본 항목 연결
+     */
+    public void addSource(ConcertSource source) {
+        source.setConcert(this);
+        sources.add(source);
+    }
+
     public boolean isFreeOrCheap() {
-        return price != null && price <= 10000;
+        return price != null && price <= CHEAP_PRICE_THRESHOLD;
     }
 }
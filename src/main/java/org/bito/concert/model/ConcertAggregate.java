@@ -0,0 +1,91 @@
+package org.bito.concert.model;
+
+import jakarta.persistence.*;
+
+/**
+ * 수집 시점에 증분 갱신되는 집계 카운터
+ * 조회 시 concerts 테이블을 GROUP BY 하지 않고 이 테이블만 읽습니다.
+ */
+@Entity
+@Table(name = "concert_aggregates")
+public class ConcertAggregate {
+
+    // "DAY:2025-11-02", "PRICE_BUCKET:FREE" 형식
+    @Id
+    @Column(length = 1000)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    private AggregateDimension dimension;
+
+    @Column(length = 1000)
+    private String bucket;
+    private long total;
+    private long freeCount;
+    private long cheapCount;
+
+    public ConcertAggregate() {
+    }
+
+    public ConcertAggregate(AggregateDimension dimension, String bucket, long total, long freeCount, long cheapCount) {
+        this.id = idOf(dimension, bucket);
+        this.dimension = dimension;
+        this.bucket = bucket;
+        this.total = total;
+        this.freeCount = freeCount;
+        this.cheapCount = cheapCount;
+    }
+
+    public static String idOf(AggregateDimension dimension, String bucket) {
+        return dimension + ":" + bucket;
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public AggregateDimension getDimension() {
+        return dimension;
+    }
+
+    public void setDimension(AggregateDimension dimension) {
+        this.dimension = dimension;
+    }
+
+    public String getBucket() {
+        return bucket;
+    }
+
+    public void setBucket(String bucket) {
+        this.bucket = bucket;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public long getFreeCount() {
+        return freeCount;
+    }
+
+    public void setFreeCount(long freeCount) {
+        this.freeCount = freeCount;
+    }
+
+    public long getCheapCount() {
+        return cheapCount;
+    }
+
+    public void setCheapCount(long cheapCount) {
+        this.cheapCount = cheapCount;
+    }
+}
@@ -0,0 +1,161 @@
+package org.bito.concert.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * 중복 제거 전 원본 수집 항목
+ * 하나의 대표(canonical) 콘서트에 여러 소스 항목이 연결됩니다.
+ */
+@Entity
+@Table(name = "concert_sources")
+public class ConcertSource {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "concert_id")
+    private Concert concert;
+
+    private String title;
+    private String artist;
+    private String venue;
+    private LocalDate date;
+    private LocalDate endDate;
+    private Integer price;
+    private Integer maxPrice;
+    private String url;
+    private String source;
+
+    // 이 항목을 수집한 목록 페이지 (다른 샤드의 레코드에 병합된 뒤에도 다음 수집 때 교체할 수 있도록 유지)
+    @Column(length = 1000)
+    private String shard;
+
+    public ConcertSource() {
+    }
+
+    public ConcertSource(Concert original) {
+        this.title = original.getTitle();
+        this.artist = original.getArtist();
+        this.venue = original.getVenue();
+        this.date = original.getDate();
+        this.endDate = original.getEndDate();
+        this.price = original.getPrice();
+        this.maxPrice = original.getMaxPrice();
+        this.url = original.getUrl();
+        this.source = original.getSource();
+        this.shard = original.getShard();
+    }
+
+    /**
+     * 원본 항목을 다시 Concert 형태로 복원 (재병합용)
+     */
+    public Concert toConcert() {
+        Concert concert = new Concert(title, artist, venue, date, price, url, source);
+        concert.setEndDate(endDate);
+        concert.setMaxPrice(maxPrice);
+        concert.setShard(shard);
+        return concert;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Concert getConcert() {
+        return concert;
+    }
+
+    public void setConcert(Concert concert) {
+        this.concert = concert;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getArtist() {
+        return artist;
+    }
+
+    public void setArtist(String artist) {
+        this.artist = artist;
+    }
+
+    public String getVenue() {
+        return venue;
+    }
+
+    public void setVenue(String venue) {
+        this.venue = venue;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public Integer getPrice() {
+        return price;
+    }
+
+    public void setPrice(Integer price) {
+        this.price = price;
+    }
+
+    public Integer getMaxPrice() {
+        return maxPrice;
+    }
+
+    public void setMaxPrice(Integer maxPrice) {
+        this.maxPrice = maxPrice;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    public String getShard() {
+        return shard;
+    }
+
+    public void setShard(String shard) {
+        this.shard = shard;
+    }
+}
@@ -0,0 +1,36 @@
+package org.bito.concert.model;
+
+/**
+ * 가격대 구간 (선언 순서가 곧 표시 순서)
+ */
+public enum PriceBucket {
+    FREE(0),
+    UP_TO_10000(10000),
+    UP_TO_30000(30000),
+    UP_TO_50000(50000),
+    UP_TO_100000(100000),
+    OVER_100000(Integer.MAX_VALUE),
+    UNKNOWN(null);
+
+    private final Integer maxPrice;
+
+    PriceBucket(Integer maxPrice) {
+        this.maxPrice = maxPrice;
+    }
+
+    public Integer getMaxPrice() {
+        return maxPrice;
+    }
+
+    public static PriceBucket of(Integer price) {
+        if (price == null) {
+            return UNKNOWN;
+        }
+        for (PriceBucket bucket : values()) {
+            if (bucket.maxPrice != null && price <= bucket.maxPrice) {
+                return bucket;
+            }
+        }
+        return OVER_100000;
+    }
+}
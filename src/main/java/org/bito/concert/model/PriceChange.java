@@ -0,0 +1,49 @@
+package org.bito.concert.model;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * 가격 변동 기록 (append-only, 클러스터 모드)
+ * 가격이 바뀐 경우에만 행이 추가되며 수정/삭제하지 않습니다.
+ */
+@Entity
+@Table(name = "price_changes", indexes = @Index(name = "idx_price_changes_key", columnList = "history_key"))
+public class PriceChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "history_key", nullable = false, length = 1000)
+    private String historyKey;
+
+    private Instant observedAt;
+    private int price;
+
+    public PriceChange() {
+    }
+
+    public PriceChange(String historyKey, Instant observedAt, int price) {
+        this.historyKey = historyKey;
+        this.observedAt = observedAt;
+        this.price = price;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getHistoryKey() {
+        return historyKey;
+    }
+
+    public Instant getObservedAt() {
+        return observedAt;
+    }
+
+    public int getPrice() {
+        return price;
+    }
+}
@@ -0,0 +1,77 @@
+package org.bito.concert.model;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * 콘서트별 가격 이력 요약 (클러스터 모드)
+ * price_changes에 행을 추가하는 트랜잭션에서 같이 갱신하므로 조회 시 이력을 다시 훑지 않습니다.
+ */
+@Entity
+@Table(name = "price_history_summaries")
+public class PriceHistorySummary {
+
+    @Id
+    @Column(name = "history_key", length = 1000)
+    private String historyKey;
+
+    private int lowestPrice;
+    private int highestPrice;
+    private int lastPrice;
+    private Instant firstSeenAt;
+    private Instant lastChangedAt;
+    // 0이면 아직 기록된 가격이 없는 빈 행
+    private int changes;
+
+    public PriceHistorySummary() {
+    }
+
+    public PriceHistorySummary(String historyKey) {
+        this.historyKey = historyKey;
+    }
+
+    /**
+     * 새 가격 관측 반영
+     */
+    public void update(Instant observedAt, int price) {
+        if (changes == 0) {
+            firstSeenAt = observedAt;
+            lowestPrice = price;
+            highestPrice = price;
+        }
+        lowestPrice = Math.min(lowestPrice, price);
+        highestPrice = Math.max(highestPrice, price);
+        lastPrice = price;
+        lastChangedAt = observedAt;
+        changes++;
+    }
+
+    // Getters
+    public String getHistoryKey() {
+        return historyKey;
+    }
+
+    public int getLowestPrice() {
+        return lowestPrice;
+    }
+
+    public int getHighestPrice() {
+        return highestPrice;
+    }
+
+    public int getLastPrice() {
+        return lastPrice;
+    }
+
+    public Instant getFirstSeenAt() {
+        return firstSeenAt;
+    }
+
+    public Instant getLastChangedAt() {
+        return lastChangedAt;
+    }
+
+    public int getChanges() {
+        return changes;
+    }
+}
@@ -0,0 +1,53 @@
+package org.bito.concert.model;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * 인스턴스 간 리더 선출용 임대(lease)
+ * 만료 시각이 지나면 다른 인스턴스가 가져갈 수 있습니다.
+ */
+@Entity
+@Table(name = "scrape_leases")
+public class ScrapeLease {
+
+    @Id
+    private String name;
+
+    private String owner;
+    private Instant expiresAt;
+
+    public ScrapeLease() {
+    }
+
+    public ScrapeLease(String name, String owner, Instant expiresAt) {
+        this.name = name;
+        this.owner = owner;
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,92 @@
+package org.bito.concert.model;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * 크롤링 작업 단위 (목록 페이지 1개)
+ *
+ * requestedRound > completedRound 이면 크롤링 대기 중이며,
+ * owner의 임대가 만료되면 다른 인스턴스가 다시 가져갑니다.
+ */
+@Entity
+@Table(name = "scrape_shards")
+public class ScrapeShard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 1000)
+    private String url;
+
+    private String owner;
+    private Instant leaseExpiresAt;
+    private long requestedRound;
+    private long completedRound;
+    private Instant completedAt;
+
+    public ScrapeShard() {
+    }
+
+    public ScrapeShard(String url) {
+        this.url = url;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public Instant getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public void setLeaseExpiresAt(Instant leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    public long getRequestedRound() {
+        return requestedRound;
+    }
+
+    public void setRequestedRound(long requestedRound) {
+        this.requestedRound = requestedRound;
+    }
+
+    public long getCompletedRound() {
+        return completedRound;
+    }
+
+    public void setCompletedRound(long completedRound) {
+        this.completedRound = completedRound;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(Instant completedAt) {
+        this.completedAt = completedAt;
+    }
+}
@@ -0,0 +1,52 @@
+package org.bito.concert.repository;
+
+import org.bito.concert.dto.AggregateResponse;
+import org.bito.concert.model.AggregateDimension;
+import org.bito.concert.model.ConcertAggregate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ConcertAggregateRepository extends JpaRepository<ConcertAggregate, String> {
+
+    /**
+     * 카운터 원자적 증감 (행이 없으면 0, 이때는 {@link #create}로 행을 만든 뒤 다시 호출)
+     * 여러 인스턴스가 동시에 반영해도 읽고-쓰기 경합으로 값이 유실되지 않습니다.
+     */
+    @Modifying
+    @Query("UPDATE ConcertAggregate a SET a.total = a.total + :total, " +
+           "a.freeCount = a.freeCount + :free, a.cheapCount = a.cheapCount + :cheap WHERE a.id = :id")
+    int increment(@Param("id") String id, @Param("total") long total,
+                  @Param("free") long free, @Param("cheap") long cheap);
+
+    /**
+     * 0으로 초기화된 카운터 행 생성 (이미 있으면 키 중복 예외, 기존 값은 덮어쓰지 않음)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO concert_aggregates (id, dimension, bucket, total, free_count, cheap_count) " +
+                   "VALUES (:id, :dimension, :bucket, 0, 0, 0)",
+           nativeQuery = true)
+    int create(@Param("id") String id, @Param("dimension") String dimension, @Param("bucket") String bucket);
+
+    /**
+     * 카운터 전체를 0으로 (행을 지우지 않으므로 동시에 증감하는 쪽과 행 생성 경합이 없음)
+     */
+    @Modifying
+    @Query("UPDATE ConcertAggregate a SET a.total = 0, a.freeCount = 0, a.cheapCount = 0")
+    int reset();
+
+    @Query("SELECT new org.bito.concert.dto.AggregateResponse(a.bucket, a.total, a.freeCount, a.cheapCount) " +
+           "FROM ConcertAggregate a WHERE a.dimension = :dimension AND a.total > 0 ORDER BY a.bucket ASC")
+    List<AggregateResponse> findByDimension(@Param("dimension") AggregateDimension dimension);
+
+    @Query("SELECT new org.bito.concert.dto.AggregateResponse(a.bucket, a.total, a.freeCount, a.cheapCount) " +
+           "FROM ConcertAggregate a WHERE a.dimension = :dimension AND a.total > 0 " +
+           "AND a.bucket BETWEEN :from AND :to ORDER BY a.bucket ASC")
+    List<AggregateResponse> findByDimensionAndBucketRange(@Param("dimension") AggregateDimension dimension,
+                                                          @Param("from") String from, @Param("to") String to);
+}
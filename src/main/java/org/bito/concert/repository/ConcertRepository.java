@@ -1,18 +1,51 @@
 package org.bito.concert.repository;
 
+import jakarta.persistence.LockModeType;
+import org.bito.concert.dto.ConcertResponse;
+import org.bito.concert.dto.ConcertSourceResponse;
 import org.bito.concert.model.Concert;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ConcertRepository extends JpaRepository<Concert, Long> {
 
-    @Query("SELECT c FROM Concert c WHERE c.price <= ?1 ORDER BY c.price ASC")
-    List<Concert> findCheapConcerts(Integer maxPrice);
+    @Query("SELECT new org.bito.concert.dto.ConcertResponse(" +
+           "c.id, c.title, c.artist, c.venue, c.date, c.endDate, c.price, c.maxPrice, c.url, c.source) " +
+           "FROM Concert c WHERE c.price <= ?1 ORDER BY c.price ASC")
+    List<ConcertResponse> findCheapConcerts(Integer maxPrice);
 
-    @Query("SELECT c FROM Concert c ORDER BY c.date ASC")
-    List<Concert> findAllOrderByDate();
+    @Query("SELECT new org.bito.concert.dto.ConcertResponse(" +
+           "c.id, c.title, c.artist, c.venue, c.date, c.endDate, c.price, c.maxPrice, c.url, c.source) " +
+           "FROM Concert c ORDER BY c.date ASC")
+    List<ConcertResponse> findAllOrderByDate();
+
+    @Query("SELECT new org.bito.concert.dto.ConcertResponse(" +
+           "c.id, c.title, c.artist, c.venue, c.date, c.endDate, c.price, c.maxPrice, c.url, c.source) " +
+           "FROM Concert c WHERE c.id = ?1")
+    Optional<ConcertResponse> findResponseById(Long id);
+
+    @Query("SELECT new org.bito.concert.dto.ConcertSourceResponse(" +
+           "s.title, s.artist, s.venue, s.date, s.endDate, s.price, s.maxPrice, s.url, s.source) " +
+           "FROM ConcertSource s WHERE s.concert.id = ?1 ORDER BY s.id ASC")
+    List<ConcertSourceResponse> findSourcesByConcertId(Long id);
+
+    /**
+     * 샤드 수집 시 다시 병합할 대상 (행 잠금)
+     * - 이 샤드가 기여한 레코드 (다른 샤드의 레코드에 병합된 경우 포함)
+     * - 새로 수집한 항목과 같은 날짜의 레코드 (다른 샤드가 먼저 수집한 같은 공연)
+     * 같은 날짜를 다루는 샤드 수집끼리는 id 순으로 잠가 순서대로 반영됩니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Concert c WHERE c.shard = :shard OR c.date IN :dates " +
+           "OR c.id IN (SELECT s.concert.id FROM ConcertSource s WHERE s.shard = :shard) ORDER BY c.id")
+    List<Concert> findForShardIngest(@Param("shard") String shard, @Param("dates") Collection<LocalDate> dates);
 }
@@ -0,0 +1,18 @@
+package org.bito.concert.repository;
+
+import org.bito.concert.history.PriceObservation;
+import org.bito.concert.model.PriceChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PriceChangeRepository extends JpaRepository<PriceChange, Long> {
+
+    @Query("SELECT new org.bito.concert.history.PriceObservation(c.observedAt, c.price) " +
+           "FROM PriceChange c WHERE c.historyKey = :key ORDER BY c.id ASC")
+    List<PriceObservation> findObservations(@Param("key") String key);
+}
@@ -0,0 +1,32 @@
+package org.bito.concert.repository;
+
+import jakarta.persistence.LockModeType;
+import org.bito.concert.model.PriceHistorySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface PriceHistorySummaryRepository extends JpaRepository<PriceHistorySummary, String> {
+
+    /**
+     * 기록 전 요약 행 잠금 (여러 인스턴스가 같은 콘서트를 동시에 기록해도 직전 가격 비교가 어긋나지 않음)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM PriceHistorySummary s WHERE s.historyKey = :key")
+    Optional<PriceHistorySummary> findForUpdate(@Param("key") String key);
+
+    /**
+     * 빈 요약 행 생성 (이미 있으면 키 중복 예외, 기존 행은 덮어쓰지 않음)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO price_history_summaries " +
+                   "(history_key, lowest_price, highest_price, last_price, changes) VALUES (:key, 0, 0, 0, 0)",
+           nativeQuery = true)
+    int create(@Param("key") String key);
+}
@@ -0,0 +1,39 @@
+package org.bito.concert.repository;
+
+import org.bito.concert.model.ScrapeLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 임대 만료 판단과 새 만료 시각 계산은 모두 DB의 CURRENT_TIMESTAMP 기준으로 수행합니다.
+ * 인스턴스마다 시계가 조금씩 달라도 두 인스턴스가 같은 임대를 동시에 가질 수 없습니다.
+ */
+@Repository
+public interface ScrapeLeaseRepository extends JpaRepository<ScrapeLease, String> {
+
+    /**
+     * 내가 가진 임대를 연장하거나 만료된 임대를 가져옴 (원자적 compare-and-set)
+     * 성공하면 1, 다른 인스턴스가 유효한 임대를 가지고 있으면 0
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE scrape_leases SET owner = :owner, " +
+                   "expires_at = DATEADD(MILLISECOND, :ttlMillis, CURRENT_TIMESTAMP) " +
+                   "WHERE name = :name AND (owner = :owner OR expires_at < CURRENT_TIMESTAMP)",
+           nativeQuery = true)
+    int tryAcquire(@Param("name") String name, @Param("owner") String owner, @Param("ttlMillis") long ttlMillis);
+
+    /**
+     * 임대 행 생성 (이미 있으면 키 중복 예외)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO scrape_leases (name, owner, expires_at) " +
+                   "VALUES (:name, :owner, DATEADD(MILLISECOND, :ttlMillis, CURRENT_TIMESTAMP))",
+           nativeQuery = true)
+    int create(@Param("name") String name, @Param("owner") String owner, @Param("ttlMillis") long ttlMillis);
+}
@@ -0,0 +1,110 @@
+package org.bito.concert.repository;
+
+import org.bito.concert.model.ScrapeShard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 임대 시각은 모두 DB의 CURRENT_TIMESTAMP 기준 (ScrapeLeaseRepository 참고)
+ */
+@Repository
+public interface ScrapeShardRepository extends JpaRepository<ScrapeShard, Long> {
+
+    boolean existsByUrl(String url);
+
+    @Transactional
+    void deleteByUrlNotIn(Collection<String> urls);
+
+    @Query(value = "SELECT * FROM scrape_shards WHERE completed_round < requested_round " +
+                   "AND (owner IS NULL OR lease_expires_at < CURRENT_TIMESTAMP)",
+           nativeQuery = true)
+    List<ScrapeShard> findClaimable();
+
+    @Query("SELECT COUNT(s) FROM ScrapeShard s WHERE s.completedRound < s.requestedRound")
+    long countPending();
+
+    @Query("SELECT MAX(s.completedAt) FROM ScrapeShard s")
+    Instant findLastCompletedAt();
+
+    /**
+     * 대기 중이고 임대가 없거나 만료된 샤드만 가져옴
+     * 성공하면 1, 다른 인스턴스가 먼저 가져갔거나 리더가 병합 중이면 0
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE scrape_shards SET owner = :owner, " +
+                   "lease_expires_at = DATEADD(MILLISECOND, :ttlMillis, CURRENT_TIMESTAMP) " +
+                   "WHERE id = :id AND completed_round < requested_round " +
+                   "AND (owner IS NULL OR lease_expires_at < CURRENT_TIMESTAMP)",
+           nativeQuery = true)
+    int claim(@Param("id") Long id, @Param("owner") String owner, @Param("ttlMillis") long ttlMillis);
+
+    /**
+     * 샤드 하나의 임대 연장 (임대를 잃은 경우 0)
+     * 트랜잭션 안에서 호출하면 커밋할 때까지 샤드 행이 잠겨 다른 인스턴스가 가져갈 수 없습니다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE scrape_shards SET lease_expires_at = DATEADD(MILLISECOND, :ttlMillis, CURRENT_TIMESTAMP) " +
+                   "WHERE id = :id AND owner = :owner",
+           nativeQuery = true)
+    int renewLease(@Param("id") Long id, @Param("owner") String owner, @Param("ttlMillis") long ttlMillis);
+
+    /**
+     * 하트비트: 내가 가진 샤드 임대 연장
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE scrape_shards SET lease_expires_at = DATEADD(MILLISECOND, :ttlMillis, CURRENT_TIMESTAMP) " +
+                   "WHERE owner = :owner",
+           nativeQuery = true)
+    int renewLeases(@Param("owner") String owner, @Param("ttlMillis") long ttlMillis);
+
+    /**
+     * 라운드 배리어: 다른 인스턴스가 작업 중이지 않은 샤드의 임대를 모두 가져옴
+     * 반환값이 전체 샤드 수와 같아야 배리어를 얻은 것이며, 그 동안 claim은 모두 실패합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE scrape_shards SET owner = :owner, " +
+                   "lease_expires_at = DATEADD(MILLISECOND, :ttlMillis, CURRENT_TIMESTAMP) " +
+                   "WHERE owner IS NULL OR owner = :owner OR lease_expires_at < CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    int holdAll(@Param("owner") String owner, @Param("ttlMillis") long ttlMillis);
+
+    /**
+     * 내가 가진 샤드 임대 모두 반납 (라운드 배리어 해제)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE scrape_shards SET owner = NULL, lease_expires_at = NULL WHERE owner = :owner",
+           nativeQuery = true)
+    int releaseAll(@Param("owner") String owner);
+
+    /**
+     * 크롤링 완료 처리 (임대를 잃은 경우 0)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE scrape_shards SET completed_round = :round, completed_at = CURRENT_TIMESTAMP, " +
+                   "owner = NULL, lease_expires_at = NULL WHERE id = :id AND owner = :owner",
+           nativeQuery = true)
+    int complete(@Param("id") Long id, @Param("owner") String owner, @Param("round") long round);
+
+    /**
+     * 완료된 샤드를 다음 라운드 대기 상태로 전환
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ScrapeShard s SET s.requestedRound = s.completedRound + 1 " +
+           "WHERE s.requestedRound = s.completedRound")
+    int requestRound();
+}
@@ -0,0 +1,10 @@
+package org.bito.concert.scraper;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 상세 페이지에서 추출한 정보 (값이 없으면 null 또는 빈 목록)
+ */
+public record ConcertDetail(String artist, List<Integer> priceTiers, LocalDate startDate, LocalDate endDate) {
+}
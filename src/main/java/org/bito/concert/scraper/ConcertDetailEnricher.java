@@ -0,0 +1,271 @@
+package org.bito.concert.scraper;
+
+import org.bito.concert.model.Concert;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 상품 상세 페이지를 따라가 목록에서 얻을 수 없는 정보 보강
+ * (아티스트, 실제 가격대, 공연 기간)
+ *
+ * 상세 페이지는 동시 요청 수 제한 안에서 병렬로 가져오고,
+ * 상품 코드별로 캐시하여 반복 크롤링 시 새 항목이나 만료된 항목만 다시 요청합니다.
+ */
+@Component
+public class ConcertDetailEnricher {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcertDetailEnricher.class);
+
+    private static final Pattern GOODS_CODE_PATTERN = Pattern.compile("(?i)(?:goodsCode=|/goods/)(\\w+)");
+    // 좌석 등급 + 가격 ("R석 99,000원", "전석 무료"), "무료취소"처럼 뒤에 다른 말이 붙은 무료는 제외
+    private static final Pattern SEAT_PRICE_PATTERN = Pattern.compile(
+        "([가-힣A-Za-z]+석|스탠딩|일반)\\s*[:：]?\\s*(?:(무료)(?![가-힣])|(\\d{1,3}(?:,\\d{3})+|\\d+)\\s*원)");
+    // 수수료, 조건부 할인/무료 등 공연 가격이 아닌 행
+    private static final Pattern EXCLUDED_ROW_PATTERN = Pattern.compile("수수료|배송|취소|할인|장애|유공자|경로|청소년|어린이");
+    // 구체적인 것부터 (클래스 이름이 cast/artist로 시작하는 요소만, "broadcast" 같은 이름은 제외)
+    private static final List<String> ARTIST_SELECTORS = List.of(
+        "[class~=(?i)(^|\\s)cast] [class*='name']",
+        "[class~=(?i)(^|\\s)artist]",
+        "[class~=(?i)(^|\\s)cast]"
+    );
+    private static final Pattern DATE_PATTERN = Pattern.compile("(\\d{4})\\s*[.\\-/]\\s*(\\d{1,2})\\s*[.\\-/]\\s*(\\d{1,2})");
+    private static final String PLACEHOLDER_ARTIST = "Various";
+
+    private final boolean enabled;
+    private final int maxConcurrency;
+    private final DetailCache cache;
+
+    public ConcertDetailEnricher(@Value("${concert.enrich.enabled:true}") boolean enabled,
+                                 @Value("${concert.enrich.max-concurrency:4}") int maxConcurrency,
+                                 @Value("${concert.enrich.cache-size:1000}") int cacheSize,
+                                 @Value("${concert.enrich.cache-ttl:PT6H}") Duration cacheTtl) {
+        this.enabled = enabled;
+        this.maxConcurrency = maxConcurrency;
+        this.cache = new DetailCache(cacheSize, cacheTtl, Clock.systemUTC());
+    }
+
+    /**
+     * 콘서트 목록을 상세 정보로 보강 (목록의 객체를 직접 수정)
+     */
+    public List<Concert> enrich(List<Concert> concerts) {
+        if (!enabled) {
+            return concerts;
+        }
+
+        // 같은 상품이 여러 번 수집된 경우 한 번만 요청
+        Map<String, List<Concert>> byGoodsCode = new LinkedHashMap<>();
+        for (Concert concert : concerts) {
+            String key = goodsCode(concert.getUrl());
+            if (key != null) {
+                byGoodsCode.computeIfAbsent(key, k -> new ArrayList<>()).add(concert);
+            }
+        }
+
+        AtomicInteger fetched = new AtomicInteger();
+        int cacheHits = 0;
+        Semaphore permits = new Semaphore(maxConcurrency);
+
+        // 가상 스레드는 요청마다 하나씩, 실제 동시 요청 수는 세마포어로 제한
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Map.Entry<String, List<Concert>> entry : byGoodsCode.entrySet()) {
+                ConcertDetail cached = cache.get(entry.getKey());
+                if (cached != null) {
+                    entry.getValue().forEach(concert -> apply(concert, cached));
+                    cacheHits++;
+                    continue;
+                }
+
+                String url = entry.getValue().get(0).getUrl();
+                executor.submit(() -> {
+                    try {
+                        permits.acquire();
+                        try {
+                            ConcertDetail detail = fetchDetail(url);
+                            cache.put(entry.getKey(), detail);
+                            fetched.incrementAndGet();
+                            entry.getValue().forEach(concert -> apply(concert, detail));
+                        } finally {
+                            permits.release();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } catch (Exception e) {
+                        // 실패한 항목은 캐시하지 않아 다음 크롤링에서 다시 시도
+                        logger.debug("Error fetching concert detail: " + url, e);
+                    }
+                });
+            }
+        }
+
+        logger.info("Enriched {} goods ({} fetched, {} from cache, {} failed)",
+            byGoodsCode.size(), fetched.get(), cacheHits, byGoodsCode.size() - fetched.get() - cacheHits);
+        return concerts;
+    }
+
+    /**
+     * 상세 페이지 요청 및 파싱
+     */
+    private ConcertDetail fetchDetail(String url) throws Exception {
+        Document doc = Jsoup.connect(url)
+                .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
+                .timeout(5000)
+                .get();
+
+        List<LocalDate> dates = extractDates(doc);
+        return new ConcertDetail(
+            extractArtist(doc),
+            extractPriceTiers(doc),
+            dates.size() > 0 ? dates.get(0) : null,
+            dates.size() > 1 ? dates.get(1) : null
+        );
+    }
+
+    /**
+     * 출연진 정보 추출
+     *
+     * 선택자를 구체적인 것부터 하나씩 적용해 처음 값이 나온 것을 사용합니다.
+     * 한 번에 합쳐 고르면 출연진 영역과 그 안의 이름 요소가 모두 잡혀 이름이 두 번씩 붙습니다.
+     */
+    static String extractArtist(Document doc) {
+        for (String selector : ARTIST_SELECTORS) {
+            String artist = outermostText(doc.select(selector));
+            if (!artist.isEmpty()) {
+                return artist;
+            }
+        }
+
+        // "출연" 항목 제목 옆의 값
+        for (Element label : doc.select("dt:contains(출연), th:contains(출연)")) {
+            Element value = label.nextElementSibling();
+            if (value != null && !value.text().isEmpty()) {
+                return value.text();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 다른 일치 요소 안에 들어 있는 요소는 빼고 텍스트를 이어 붙임 (중첩된 요소의 텍스트 중복 방지)
+     */
+    private static String outermostText(Elements elements) {
+        Set<Element> matched = Collections.newSetFromMap(new IdentityHashMap<>());
+        matched.addAll(elements);
+
+        StringJoiner text = new StringJoiner(" ");
+        for (Element element : elements) {
+            boolean nested = element.parents().stream().anyMatch(matched::contains);
+            if (!nested && !element.text().isEmpty()) {
+                text.add(element.text());
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * 가격대 추출 ("R석 99,000원 / S석 77,000원" -> [77000, 99000])
+     *
+     * 가격 영역 전체 텍스트가 아니라 좌석 등급별 가격 행만 봅니다.
+     * 영역 안의 "무료취소", "장애인 무료", "예매수수료 2,000원" 같은 문구가 가격으로 잡혀
+     * 유료 공연이 저렴한 콘서트 조회에 포함되지 않도록 하기 위함입니다.
+     */
+    static List<Integer> extractPriceTiers(Document doc) {
+        SortedSet<Integer> tiers = new TreeSet<>();
+        for (Element row : doc.select("[class*='price'] li, [class*='price'] tr, [class*='price'] dd, [class*='price']")) {
+            if (!row.is("li, tr, dd") && !row.select("li, tr, dd").isEmpty()) {
+                // 행 목록을 감싸는 영역 자체는 건너뛰고 행 단위로만 처리
+                continue;
+            }
+
+            // <dt>R석</dt><dd>99,000원</dd> 형태는 등급 이름을 앞에 붙여서 처리
+            Element label = row.is("dd") ? row.previousElementSibling() : null;
+            String text = (label != null ? label.text() + " " + row.text() : row.text()).trim();
+            if (text.equals("무료")) {
+                tiers.add(0);
+                continue;
+            }
+            if (EXCLUDED_ROW_PATTERN.matcher(text).find()) {
+                continue;
+            }
+
+            Matcher matcher = SEAT_PRICE_PATTERN.matcher(text);
+            while (matcher.find()) {
+                if (matcher.group(2) != null) {
+                    tiers.add(0);
+                    continue;
+                }
+                try {
+                    tiers.add(Integer.parseInt(matcher.group(3).replace(",", "")));
+                } catch (NumberFormatException ignored) {
+                }
+            }
+        }
+        return new ArrayList<>(tiers);
+    }
+
+    /**
+     * 공연 기간 추출 ("2025.10.31 ~ 2025.11.02" -> [2025-10-31, 2025-11-02])
+     */
+    private List<LocalDate> extractDates(Document doc) {
+        String periodText = doc.select("[class*='period'], [class*='date']").text();
+
+        List<LocalDate> dates = new ArrayList<>();
+        Matcher matcher = DATE_PATTERN.matcher(periodText);
+        while (matcher.find() && dates.size() < 2) {
+            try {
+                dates.add(LocalDate.of(
+                    Integer.parseInt(matcher.group(1)),
+                    Integer.parseInt(matcher.group(2)),
+                    Integer.parseInt(matcher.group(3))
+                ));
+            } catch (Exception ignored) {
+            }
+        }
+        return dates;
+    }
+
+    /**
+     * 상세 정보로 콘서트 필드 덮어쓰기 (상세 페이지에 값이 있는 경우만)
+     */
+    private void apply(Concert concert, ConcertDetail detail) {
+        if (detail.artist() != null
+                && (concert.getArtist() == null || concert.getArtist().isEmpty() || PLACEHOLDER_ARTIST.equals(concert.getArtist()))) {
+            concert.setArtist(detail.artist());
+        }
+        if (!detail.priceTiers().isEmpty()) {
+            concert.setPrice(detail.priceTiers().get(0));
+            concert.setMaxPrice(detail.priceTiers().get(detail.priceTiers().size() - 1));
+        }
+        if (detail.startDate() != null) {
+            concert.setDate(detail.startDate());
+            concert.setEndDate(detail.endDate() != null ? detail.endDate() : detail.startDate());
+        }
+    }
+
+    /**
+     * URL에서 상품 코드 추출 (없으면 URL 자체를 키로 사용)
+     */
+    private String goodsCode(String url) {
+        if (url == null || url.isEmpty()) {
+            return null;
+        }
+        Matcher matcher = GOODS_CODE_PATTERN.matcher(url);
+        return matcher.find() ? matcher.group(1) : url;
+    }
+}
@@ -0,0 +1,56 @@
+package org.bito.concert.scraper;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 상품 코드별 상세 정보 캐시
+ * TTL이 지난 항목은 다시 가져오고, 용량을 넘으면 가장 오래 사용하지 않은 항목(LRU)부터 제거합니다.
+ */
+class DetailCache {
+
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<String, Entry> entries;
+
+    DetailCache(int maxSize, Duration ttl, Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+        // accessOrder = true: get 할 때마다 가장 최근 위치로 이동
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 유효한 캐시 항목 조회 (없거나 만료되면 null)
+     */
+    synchronized ConcertDetail get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (clock.instant().isAfter(entry.fetchedAt().plus(ttl))) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.detail();
+    }
+
+    synchronized void put(String key, ConcertDetail detail) {
+        entries.put(key, new Entry(detail, clock.instant()));
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry(ConcertDetail detail, Instant fetchedAt) {
+    }
+}
@@ -11,6 +11,7 @@ import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
@@ -26,8 +27,19 @@ public class InterparkScraper {
     private static final String INTERPARK_CONCERT_URL = "http://ticket.interpark.com/TPGoodsList.asp?Ca=Liv";
     private static final String MOBILE_CONCERT_URL = "https://mticket.interpark.com/Genre/ConcertMain?invisible=N";
 
+    // 크롤링 대상 목록 페이지 (클러스터 모드에서는 페이지 하나가 샤드 하나)
+    private final List<String> frontierUrls;
+
+    public InterparkScraper(@Value("${concert.scrape.frontier:" + MOBILE_CONCERT_URL + "}") List<String> frontierUrls) {
+        this.frontierUrls = frontierUrls;
+    }
+
+    public List<String> getFrontierUrls() {
+        return frontierUrls;
+    }
+
     /**
-     * 인터파크 티켓에서 콘서트 정보 크롤링
+     * 인터파크 티켓에서 콘서트 정보 크롤링 (모든 목록 페이지)
      */
     public List<Concert> scrapeConcerts() {
         logger.info("Starting Interpark concert scraping...");
@@ -39,7 +51,9 @@ public class InterparkScraper {
             driver = createWebDriver();
 
             // 모바일 페이지 크롤링 시도 (구조가 더 간단함)
-            concerts.addAll(scrapeMobilePage(driver));
+            for (String url : frontierUrls) {
+                concerts.addAll(scrapeMobilePage(driver, url));
+            }
 
             logger.info("Successfully scraped {} concerts from Interpark", concerts.size());
 
@@ -54,6 +68,29 @@ public class InterparkScraper {
         return concerts;
     }
 
+    /**
+     * 목록 페이지 하나만 크롤링 (샤드 단위 작업)
+     */
+    public List<Concert> scrapePage(String url) {
+        WebDriver driver = null;
+        List<Concert> concerts = new ArrayList<>();
+
+        try {
+            driver = createWebDriver();
+            concerts.addAll(scrapeMobilePage(driver, url));
+            logger.info("Successfully scraped {} concerts from {}", concerts.size(), url);
+
+        } catch (Exception e) {
+            logger.error("Error scraping Interpark page: " + url, e);
+        } finally {
+            if (driver != null) {
+                driver.quit();
+            }
+        }
+
+        return concerts;
+    }
+
     /**
      * Chrome WebDriver 생성 (헤드리스 모드)
      */
@@ -72,12 +109,12 @@ public class InterparkScraper {
     /**
      * 모바일 페이지 크롤링
      */
-    private List<Concert> scrapeMobilePage(WebDriver driver) {
+    private List<Concert> scrapeMobilePage(WebDriver driver, String url) {
         List<Concert> concerts = new ArrayList<>();
 
         try {
-            logger.info("Accessing Interpark mobile page: {}", MOBILE_CONCERT_URL);
-            driver.get(MOBILE_CONCERT_URL);
+            logger.info("Accessing Interpark mobile page: {}", url);
+            driver.get(url);
 
             // 페이지 로딩 대기 (최대 10초)
             Thread.sleep(3000);
@@ -186,7 +223,7 @@ public class InterparkScraper {
             "Various", // 아티스트 정보가 없는 경우
             venue.isEmpty() ? "인터파크 티켓" : venue,
             date,
-            price != null ? price : 0,
+            price, // 목록에 가격이 없으면 null (상세 페이지 보강 단계에서 채움)
             url,
             "Interpark"
         );
@@ -234,7 +271,7 @@ public class InterparkScraper {
             "Various",
             venue,
             date,
-            price != null ? price : 0,
+            price,
             url,
             "Interpark"
         );
@@ -242,11 +279,12 @@ public class InterparkScraper {
 
     /**
      * 가격 문자열 파싱
+     * 가격 정보가 없으면 0(무료)이 아닌 null을 반환하여 저렴한 콘서트 조회에 섞이지 않도록 합니다.
      */
     private Integer parsePrice(String priceStr) {
         try {
             if (priceStr == null || priceStr.isEmpty()) {
-                return 0;
+                return null;
             }
 
             if (priceStr.contains("무료") || priceStr.toLowerCase().contains("free")) {
@@ -255,9 +293,9 @@ public class InterparkScraper {
 
             // 숫자만 추출
             String digits = priceStr.replaceAll("[^0-9]", "");
-            return digits.isEmpty() ? 0 : Integer.parseInt(digits);
+            return digits.isEmpty() ? null : Integer.parseInt(digits);
         } catch (Exception e) {
-            return 0;
+            return null;
         }
     }
 
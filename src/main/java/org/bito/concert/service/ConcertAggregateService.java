@@ -0,0 +1,202 @@
+package org.bito.concert.service;
+
+import org.bito.concert.dto.AggregateResponse;
+import org.bito.concert.model.AggregateDimension;
+import org.bito.concert.model.Concert;
+import org.bito.concert.model.ConcertAggregate;
+import org.bito.concert.model.PriceBucket;
+import org.bito.concert.repository.ConcertAggregateRepository;
+import org.bito.concert.repository.ConcertRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.util.*;
+
+/**
+ * 일/주/가격대/장소별 콘서트 수 집계
+ *
+ * 수집 시 삭제/추가된 콘서트만큼 카운터를 증감하므로,
+ * 조회 비용은 콘서트 수가 아니라 구간 수에 비례합니다.
+ *
+ * 일/주 집계는 공연 기간(date ~ endDate)에 걸친 모든 날짜/주에 하나씩 셉니다.
+ * 달력에서 특정 날짜에 볼 수 있는 공연 수가 되도록 하기 위함입니다.
+ */
+@Service
+public class ConcertAggregateService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcertAggregateService.class);
+
+    // 종료일이 잘못 수집된 경우 카운터가 과도하게 늘지 않도록 일/주 집계 기간을 제한
+    static final int MAX_SPAN_DAYS = 366;
+
+    private final ConcertAggregateRepository aggregateRepository;
+    private final ConcertRepository concertRepository;
+    private final TransactionTemplate newTransaction;
+
+    public ConcertAggregateService(ConcertAggregateRepository aggregateRepository, ConcertRepository concertRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.aggregateRepository = aggregateRepository;
+        this.concertRepository = concertRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 콘서트 변경분을 카운터에 반영 (콘서트 저장과 같은 트랜잭션에서 호출)
+     *
+     * 행이 없으면 0인 행을 별도 트랜잭션으로 먼저 만든 뒤 원자적으로 증감합니다.
+     * 여러 인스턴스가 같은 구간을 처음 반영해도 한쪽 값이 유실되거나 키 중복으로 실패하지 않습니다.
+     * 카운터는 id 순서로 갱신해 인스턴스 간 행 잠금 순서를 맞춥니다.
+     */
+    @Transactional
+    public void apply(Collection<Concert> removed, Collection<Concert> added) {
+        for (Map.Entry<String, Delta> entry : deltas(removed, added).entrySet()) {
+            Delta delta = entry.getValue();
+            String id = entry.getKey();
+            if (aggregateRepository.increment(id, delta.total, delta.free, delta.cheap) == 0) {
+                createRow(id, delta);
+                aggregateRepository.increment(id, delta.total, delta.free, delta.cheap);
+            }
+        }
+    }
+
+    /**
+     * 카운터 전체 초기화 (카탈로그를 통째로 다시 적재하기 전)
+     */
+    @Transactional
+    public void clear() {
+        aggregateRepository.reset();
+    }
+
+    /**
+     * 현재 콘서트 테이블 기준으로 카운터 전체 재계산
+     */
+    @Transactional
+    public void rebuild() {
+        clear();
+        apply(List.of(), concertRepository.findAll());
+        logger.info("Rebuilt concert aggregates");
+    }
+
+    @Transactional(readOnly = true)
+    public List<AggregateResponse> getDaily(LocalDate from, LocalDate to) {
+        if (from == null && to == null) {
+            return aggregateRepository.findByDimension(AggregateDimension.DAY);
+        }
+        return aggregateRepository.findByDimensionAndBucketRange(AggregateDimension.DAY,
+            from != null ? from.toString() : "0000-01-01",
+            to != null ? to.toString() : "9999-12-31");
+    }
+
+    @Transactional(readOnly = true)
+    public List<AggregateResponse> getWeekly() {
+        return aggregateRepository.findByDimension(AggregateDimension.WEEK);
+    }
+
+    /**
+     * 가격대별 집계 (저렴한 구간부터)
+     */
+    @Transactional(readOnly = true)
+    public List<AggregateResponse> getPriceBuckets() {
+        List<AggregateResponse> buckets = new ArrayList<>(aggregateRepository.findByDimension(AggregateDimension.PRICE_BUCKET));
+        buckets.sort(Comparator.comparing(response -> PriceBucket.valueOf(response.bucket())));
+        return buckets;
+    }
+
+    @Transactional(readOnly = true)
+    public List<AggregateResponse> getVenues() {
+        return aggregateRepository.findByDimension(AggregateDimension.VENUE);
+    }
+
+    /**
+     * 변경분을 카운터 id별 증감으로 환산 (id 순, 증감이 모두 0인 카운터는 제외)
+     */
+    static SortedMap<String, Delta> deltas(Collection<Concert> removed, Collection<Concert> added) {
+        SortedMap<String, Delta> deltas = new TreeMap<>();
+        removed.forEach(concert -> accumulate(deltas, concert, -1));
+        added.forEach(concert -> accumulate(deltas, concert, 1));
+        deltas.values().removeIf(delta -> delta.total == 0 && delta.free == 0 && delta.cheap == 0);
+        return deltas;
+    }
+
+    private static void accumulate(Map<String, Delta> deltas, Concert concert, int sign) {
+        boolean free = concert.getPrice() != null && concert.getPrice() == 0;
+        boolean cheap = concert.isFreeOrCheap();
+
+        LocalDate date = concert.getDate();
+        if (date != null) {
+            LocalDate last = concert.getEndDate() != null && concert.getEndDate().isAfter(date)
+                ? concert.getEndDate() : date;
+            if (last.isAfter(date.plusDays(MAX_SPAN_DAYS - 1))) {
+                last = date.plusDays(MAX_SPAN_DAYS - 1);
+            }
+
+            Set<String> weeks = new LinkedHashSet<>();
+            for (LocalDate day = date; !day.isAfter(last); day = day.plusDays(1)) {
+                add(deltas, AggregateDimension.DAY, day.toString(), sign, free, cheap);
+                weeks.add(String.format("%d-W%02d",
+                    day.get(IsoFields.WEEK_BASED_YEAR), day.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR)));
+            }
+            for (String week : weeks) {
+                add(deltas, AggregateDimension.WEEK, week, sign, free, cheap);
+            }
+        }
+        add(deltas, AggregateDimension.PRICE_BUCKET, PriceBucket.of(concert.getPrice()).name(), sign, free, cheap);
+        if (concert.getVenue() != null && !concert.getVenue().isEmpty()) {
+            add(deltas, AggregateDimension.VENUE, concert.getVenue(), sign, free, cheap);
+        }
+    }
+
+    /**
+     * 빈 카운터 행을 별도 트랜잭션으로 먼저 커밋 (다른 인스턴스가 이미 만들었으면 키 중복 예외를 무시)
+     */
+    private void createRow(String id, Delta delta) {
+        try {
+            newTransaction.executeWithoutResult(status ->
+                aggregateRepository.create(id, delta.dimension.name(), delta.bucket));
+        } catch (DataIntegrityViolationException e) {
+            // 이미 생성됨
+        }
+    }
+
+    private static void add(Map<String, Delta> deltas, AggregateDimension dimension, String bucket,
+                            int sign, boolean free, boolean cheap) {
+        Delta delta = deltas.computeIfAbsent(ConcertAggregate.idOf(dimension, bucket), id -> new Delta(dimension, bucket));
+        delta.total += sign;
+        delta.free += free ? sign : 0;
+        delta.cheap += cheap ? sign : 0;
+    }
+
+    static class Delta {
+        private final AggregateDimension dimension;
+        private final String bucket;
+        private long total;
+        private long free;
+        private long cheap;
+
+        Delta(AggregateDimension dimension, String bucket) {
+            this.dimension = dimension;
+            this.bucket = bucket;
+        }
+
+        long total() {
+            return total;
+        }
+
+        long free() {
+            return free;
+        }
+
+        long cheap() {
+            return cheap;
+        }
+    }
+}
@@ -1,7 +1,13 @@
 package org.bito.concert.service;
 
+import org.bito.concert.dedup.ConcertDeduplicator;
+import org.bito.concert.dto.ConcertResponse;
+import org.bito.concert.dto.ConcertSourceResponse;
+import org.bito.concert.history.PriceHistoryService;
 import org.bito.concert.model.Concert;
+import org.bito.concert.model.ConcertSource;
 import org.bito.concert.repository.ConcertRepository;
+import org.bito.concert.scraper.ConcertDetailEnricher;
 import org.bito.concert.scraper.InterparkScraper;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
@@ -10,11 +16,12 @@ import org.jsoup.select.Elements;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 @Service
 public class ConcertScraperService {
@@ -22,10 +29,23 @@ public class ConcertScraperService {
     private static final Logger logger = LoggerFactory.getLogger(ConcertScraperService.class);
     private final ConcertRepository concertRepository;
     private final InterparkScraper interparkScraper;
-
-    public ConcertScraperService(ConcertRepository concertRepository, InterparkScraper interparkScraper) {
+    private final ConcertDetailEnricher detailEnricher;
+    private final ConcertDeduplicator concertDeduplicator;
+    private final PriceHistoryService priceHistoryService;
+    private final ConcertAggregateService aggregateService;
+    private final TransactionTemplate transactionTemplate;
+
+    public ConcertScraperService(ConcertRepository concertRepository, InterparkScraper interparkScraper,
+                                 ConcertDetailEnricher detailEnricher, ConcertDeduplicator concertDeduplicator,
+                                 PriceHistoryService priceHistoryService, ConcertAggregateService aggregateService,
+                                 TransactionTemplate transactionTemplate) {
         this.concertRepository = concertRepository;
         this.interparkScraper = interparkScraper;
+        this.detailEnricher = detailEnricher;
+        this.concertDeduplicator = concertDeduplicator;
+        this.priceHistoryService = priceHistoryService;
+        this.aggregateService = aggregateService;
+        this.transactionTemplate = transactionTemplate;
     }
 
     /**
@@ -43,6 +63,9 @@ public class ConcertScraperService {
             // 인터파크에서 실제 크롤링
             concerts.addAll(interparkScraper.scrapeConcerts());
 
+            // 상세 페이지에서 아티스트/가격대/공연 기간 보강
+            detailEnricher.enrich(concerts);
+
             // 크롤링 결과가 없으면 샘플 데이터 사용
             if (concerts.isEmpty()) {
                 logger.warn("No concerts scraped, using sample data");
@@ -54,14 +77,143 @@ public class ConcertScraperService {
             concerts.addAll(generateSampleConcerts());
         }
 
+        // 여러 목록/소스에서 중복 수집된 공연 병합
+        concerts = concertDeduplicator.deduplicate(concerts);
+
         // 데이터베이스에 저장
-        concertRepository.deleteAll();
-        concertRepository.saveAll(concerts);
+        replaceCatalog(concerts);
+        priceHistoryService.record(concerts);
 
         logger.info("Scraped {} concerts", concerts.size());
         return concerts;
     }
 
+    /**
+     * 저장된 콘서트 전체 교체 + 집계 카운터 반영 (한 트랜잭션)
+     * 크롤링 자체는 트랜잭션 밖에서 끝낸 뒤 호출합니다.
+     */
+    private void replaceCatalog(List<Concert> concerts) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Concert> removed = concertRepository.findAll();
+            concertRepository.deleteAll(removed);
+            concertRepository.saveAll(concerts);
+            aggregateService.apply(removed, concerts);
+        });
+    }
+
+    /**
+     * 샤드(목록 페이지) 하나의 크롤링 결과 반영
+     *
+     * 이 샤드가 이전에 기여한 항목만 새 결과로 교체하고, 같은 날짜에 다른 샤드가 수집한 레코드와 함께 다시 병합합니다.
+     * 다른 샤드의 레코드에 병합돼 있던 이전 항목도 원본 항목 단위로 빠지므로, 중복이 다음 라운드에 다시 생기지 않습니다.
+     * 병합 결과가 달라지지 않은 레코드는 그대로 둡니다.
+     * 새로 쓴 레코드의 가격 이력도 같은 트랜잭션에서 공유 DB에 기록합니다.
+     */
+    @Transactional
+    public void ingestShard(String shard, List<Concert> scraped) {
+        scraped.forEach(concert -> concert.setShard(shard));
+        Set<LocalDate> dates = new HashSet<>();
+        for (Concert concert : scraped) {
+            if (concert.getDate() != null) {
+                dates.add(concert.getDate());
+            }
+        }
+
+        List<Concert> affected = concertRepository.findForShardIngest(shard, dates);
+
+        // 기존 레코드를 원본 항목 단위로 풀되 이 샤드의 이전 항목은 버림
+        List<Concert> entries = new ArrayList<>(scraped);
+        Map<Concert, Concert> origins = new IdentityHashMap<>();
+        Map<Concert, Integer> entryCounts = new IdentityHashMap<>();
+        Set<Concert> intact = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Concert existing : affected) {
+            List<Concert> kept = entriesOutsideShard(existing, shard);
+            for (Concert entry : kept) {
+                origins.put(entry, existing);
+                entries.add(entry);
+            }
+            entryCounts.put(existing, kept.size());
+            if (kept.size() == Math.max(existing.getSources().size(), 1)) {
+                intact.add(existing);
+            }
+        }
+
+        Set<Concert> unchanged = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Concert> added = new ArrayList<>();
+        for (List<Concert> group : concertDeduplicator.group(entries)) {
+            Concert origin = origins.get(group.get(0));
+            boolean sameAsBefore = origin != null
+                && intact.contains(origin)
+                && group.size() == entryCounts.get(origin)
+                && group.stream().allMatch(entry -> origins.get(entry) == origin);
+            if (sameAsBefore) {
+                unchanged.add(origin);
+            } else {
+                added.add(concertDeduplicator.merge(group));
+            }
+        }
+
+        List<Concert> removed = affected.stream()
+            .filter(existing -> !unchanged.contains(existing))
+            .toList();
+
+        concertRepository.deleteAll(removed);
+        concertRepository.saveAll(added);
+        aggregateService.apply(removed, added);
+        priceHistoryService.record(added);
+
+        logger.info("Ingested {} concerts from shard {} ({} records replaced, {} written)",
+            scraped.size(), shard, removed.size(), added.size());
+    }
+
+    /**
+     * 저장된 레코드에서 다른 샤드가 기여한 원본 항목만 다시 Concert로 복원
+     */
+    private List<Concert> entriesOutsideShard(Concert existing, String shard) {
+        if (existing.getSources().isEmpty()) {
+            // 스냅샷으로 적재된 레코드처럼 원본 항목이 없으면 레코드 자체를 항목 하나로 취급
+            return shard.equals(existing.getShard()) ? List.of() : List.of(new ConcertSource(existing).toConcert());
+        }
+
+        List<Concert> entries = new ArrayList<>();
+        for (ConcertSource source : existing.getSources()) {
+            if (!shard.equals(source.getShard())) {
+                entries.add(source.toConcert());
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * 샤드 간 중복 병합 (리더가 라운드 배리어를 잡은 상태에서 실행)
+     * 수집 시점에 놓친 중복(같은 날짜를 동시에 수집한 경우 등)만 찾아 해당 그룹의 레코드만 교체합니다.
+     */
+    @Transactional
+    public void consolidate() {
+        List<Concert> stored = concertRepository.findAll();
+
+        List<Concert> removed = new ArrayList<>();
+        List<Concert> merged = new ArrayList<>();
+        for (List<Concert> group : concertDeduplicator.group(stored)) {
+            if (group.size() > 1) {
+                removed.addAll(group);
+                merged.add(concertDeduplicator.merge(group));
+            }
+        }
+
+        if (merged.isEmpty()) {
+            logger.info("No cross-shard duplicates among {} concerts", stored.size());
+            return;
+        }
+
+        concertRepository.deleteAll(removed);
+        concertRepository.saveAll(merged);
+        aggregateService.apply(removed, merged);
+        priceHistoryService.record(merged);
+
+        logger.info("Consolidated {} duplicate records into {}", removed.size(), merged.size());
+    }
+
     /**
      * 샘플 데이터만 사용 (테스트용)
      */
@@ -71,8 +223,8 @@ public class ConcertScraperService {
         List<Concert> concerts = generateSampleConcerts();
 
         // 데이터베이스에 저장
-        concertRepository.deleteAll();
-        concertRepository.saveAll(concerts);
+        replaceCatalog(concerts);
+        priceHistoryService.record(concerts);
 
         logger.info("Loaded {} sample concerts", concerts.size());
         return concerts;
@@ -241,14 +393,27 @@ public class ConcertScraperService {
     /**
      * 저렴한 콘서트만 조회 (10,000원 이하)
      */
-    public List<Concert> getCheapConcerts() {
-        return concertRepository.findCheapConcerts(10000);
+    @Transactional(readOnly = true)
+    public List<ConcertResponse> getCheapConcerts() {
+        return concertRepository.findCheapConcerts(Concert.CHEAP_PRICE_THRESHOLD);
     }
 
     /**
      * 모든 콘서트 조회 (날짜순)
      */
-    public List<Concert> getAllConcerts() {
+    @Transactional(readOnly = true)
+    public List<ConcertResponse> getAllConcerts() {
         return concertRepository.findAllOrderByDate();
     }
+
+    /**
+     * 대표 콘서트에 병합된 원본 수집 항목 (콘서트가 없으면 empty)
+     */
+    @Transactional(readOnly = true)
+    public Optional<List<ConcertSourceResponse>> getSources(Long concertId) {
+        if (!concertRepository.existsById(concertId)) {
+            return Optional.empty();
+        }
+        return Optional.of(concertRepository.findSourcesByConcertId(concertId));
+    }
 }
@@ -0,0 +1,258 @@
+package org.bito.concert.service;
+
+import org.bito.concert.model.Concert;
+import org.bito.concert.model.ScrapeShard;
+import org.bito.concert.repository.ScrapeLeaseRepository;
+import org.bito.concert.repository.ScrapeShardRepository;
+import org.bito.concert.scraper.ConcertDetailEnricher;
+import org.bito.concert.scraper.InterparkScraper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 여러 인스턴스가 공유 DB를 통해 크롤링을 나눠서 수행하도록 조정
+ *
+ * - 리더: scrape_leases 임대를 가진 인스턴스 하나가 샤드 목록 관리, 라운드 시작, 샤드 간 병합 수행
+ * - 워커: 모든 인스턴스가 대기 중인 샤드를 하나씩 가져가 크롤링
+ * - 하트비트: 작업 중인 샤드 임대를 주기적으로 연장, 멈춘 인스턴스의 샤드는 만료 후 재할당
+ * - 라운드 배리어: 리더는 모든 샤드 임대를 잡은 상태에서만 병합하므로 병합 중에는 어떤 샤드도 수집되지 않음
+ *
+ * 임대 만료는 모두 DB 시각으로 판단하므로 인스턴스 간 시계 차이와 무관합니다.
+ * concert.cluster.enabled=true 일 때만 활성화됩니다.
+ */
+@Service
+@ConditionalOnProperty(name = "concert.cluster.enabled", havingValue = "true")
+public class ScrapeCoordinator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScrapeCoordinator.class);
+    private static final String LEADER_LEASE = "scrape-leader";
+
+    private final ScrapeLeaseRepository leaseRepository;
+    private final ScrapeShardRepository shardRepository;
+    private final InterparkScraper interparkScraper;
+    private final ConcertDetailEnricher detailEnricher;
+    private final ConcertScraperService scraperService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final String nodeId;
+    private final Duration leaseTtl;
+    private final Duration roundInterval;
+
+    // 리더 상태 (리더가 바뀌면 새 리더가 한 번 더 병합/라운드 시작을 수행할 뿐이므로 메모리로 충분)
+    private volatile boolean leader;
+    private Instant lastRoundStartedAt;
+    private Instant lastConsolidatedAt;
+
+    public ScrapeCoordinator(ScrapeLeaseRepository leaseRepository,
+                             ScrapeShardRepository shardRepository,
+                             InterparkScraper interparkScraper,
+                             ConcertDetailEnricher detailEnricher,
+                             ConcertScraperService scraperService,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${concert.cluster.node-id:}") String nodeId,
+                             @Value("${concert.cluster.lease-ttl:PT30S}") Duration leaseTtl,
+                             @Value("${concert.cluster.round-interval:PT30M}") Duration roundInterval) {
+        this.leaseRepository = leaseRepository;
+        this.shardRepository = shardRepository;
+        this.interparkScraper = interparkScraper;
+        this.detailEnricher = detailEnricher;
+        this.scraperService = scraperService;
+        this.transactionTemplate = transactionTemplate;
+        this.nodeId = nodeId.isEmpty() ? defaultNodeId() : nodeId;
+        this.leaseTtl = leaseTtl;
+        this.roundInterval = roundInterval;
+        logger.info("Cluster scraping enabled, node id: {}", this.nodeId);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public boolean isLeader() {
+        return leader;
+    }
+
+    /**
+     * 즉시 새 라운드 요청 (어느 인스턴스에서 호출해도 됨)
+     * 이미 진행 중인 샤드는 그대로 두고, 완료된 샤드만 다시 대기 상태로 전환합니다.
+     */
+    public int requestRound() {
+        int requested = shardRepository.requestRound();
+        logger.info("Requested new scrape round for {} shards", requested);
+        return requested;
+    }
+
+    /**
+     * 하트비트: 리더 임대와 작업 중인 샤드 임대 연장
+     * 크롤링이 오래 걸려도 임대가 만료되지 않도록 작업 스레드와 별도로 실행됩니다.
+     */
+    @Scheduled(fixedDelayString = "${concert.cluster.heartbeat-interval:PT10S}")
+    public void heartbeat() {
+        try {
+            shardRepository.renewLeases(nodeId, leaseTtl.toMillis());
+            if (leader) {
+                leader = leaseRepository.tryAcquire(LEADER_LEASE, nodeId, leaseTtl.toMillis()) == 1;
+            }
+        } catch (Exception e) {
+            logger.error("Heartbeat failed", e);
+        }
+    }
+
+    /**
+     * 리더 작업 후 대기 중인 샤드 하나를 가져와 크롤링
+     */
+    @Scheduled(fixedDelayString = "${concert.cluster.poll-interval:PT5S}")
+    public void tick() {
+        try {
+            if (tryAcquireLeadership()) {
+                lead();
+            }
+            processNextShard();
+        } catch (Exception e) {
+            logger.error("Scrape coordination tick failed", e);
+        }
+    }
+
+    private boolean tryAcquireLeadership() {
+        boolean acquired = leaseRepository.tryAcquire(LEADER_LEASE, nodeId, leaseTtl.toMillis()) == 1;
+
+        if (!acquired && !leaseRepository.existsById(LEADER_LEASE)) {
+            try {
+                acquired = leaseRepository.create(LEADER_LEASE, nodeId, leaseTtl.toMillis()) == 1;
+            } catch (DataIntegrityViolationException e) {
+                // 다른 인스턴스가 동시에 먼저 생성함
+                acquired = false;
+            }
+        }
+
+        if (acquired != leader) {
+            logger.info(acquired ? "Node {} became scrape leader" : "Node {} lost scrape leadership", nodeId);
+        }
+        leader = acquired;
+        return acquired;
+    }
+
+    /**
+     * 리더 작업: 샤드 목록 동기화, 라운드 완료 시 병합, 주기마다 새 라운드 시작
+     */
+    private void lead() {
+        syncFrontier();
+
+        if (shardRepository.countPending() > 0) {
+            return;
+        }
+
+        Instant lastCompletedAt = shardRepository.findLastCompletedAt();
+        if (lastCompletedAt != null && (lastConsolidatedAt == null || lastCompletedAt.isAfter(lastConsolidatedAt))) {
+            if (!consolidateWithBarrier()) {
+                return;
+            }
+            lastConsolidatedAt = lastCompletedAt;
+        }
+
+        // 라운드 주기는 리더 자신의 경과 시간만 보므로 로컬 시계로 충분
+        Instant now = Instant.now();
+        if (lastRoundStartedAt == null || now.isAfter(lastRoundStartedAt.plus(roundInterval))) {
+            requestRound();
+            lastRoundStartedAt = now;
+        }
+    }
+
+    /**
+     * 라운드 배리어를 잡고 병합 (다른 인스턴스가 작업 중인 샤드가 있으면 다음 tick으로 미룸)
+     *
+     * 배리어를 잡는 동안 claim은 모두 실패하고, 병합 트랜잭션 안에서 샤드 임대를 다시 연장해 행을 잠그므로
+     * 임대가 만료된 인스턴스의 수집 결과가 병합과 겹쳐 커밋되지도 않습니다.
+     */
+    private boolean consolidateWithBarrier() {
+        long shards = shardRepository.count();
+        try {
+            if (shardRepository.holdAll(nodeId, leaseTtl.toMillis()) < shards) {
+                logger.info("Shards still being scraped, postponing consolidation");
+                return false;
+            }
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (shardRepository.renewLeases(nodeId, leaseTtl.toMillis()) < shards) {
+                    return false;
+                }
+                scraperService.consolidate();
+                return true;
+            }));
+        } finally {
+            shardRepository.releaseAll(nodeId);
+        }
+    }
+
+    private void syncFrontier() {
+        List<String> frontier = interparkScraper.getFrontierUrls();
+        shardRepository.deleteByUrlNotIn(frontier);
+        for (String url : frontier) {
+            if (!shardRepository.existsByUrl(url)) {
+                shardRepository.save(new ScrapeShard(url));
+                logger.info("Registered scrape shard {}", url);
+            }
+        }
+    }
+
+    private void processNextShard() {
+        List<ScrapeShard> candidates = new ArrayList<>(shardRepository.findClaimable());
+        // 여러 인스턴스가 같은 샤드를 동시에 노리지 않도록 순서를 섞음
+        Collections.shuffle(candidates);
+
+        for (ScrapeShard shard : candidates) {
+            if (shardRepository.claim(shard.getId(), nodeId, leaseTtl.toMillis()) == 1) {
+                scrapeShard(shard);
+                return;
+            }
+        }
+    }
+
+    private void scrapeShard(ScrapeShard shard) {
+        logger.info("Node {} scraping shard {} (round {})", nodeId, shard.getUrl(), shard.getRequestedRound());
+
+        List<Concert> concerts = interparkScraper.scrapePage(shard.getUrl());
+        if (concerts.isEmpty()) {
+            // 크롤링 실패로 빈 결과가 나오면 이전 데이터를 유지
+            logger.warn("No concerts scraped from shard {}, keeping previous data", shard.getUrl());
+        } else {
+            // 상세 페이지 요청은 DB 트랜잭션 밖에서 수행
+            detailEnricher.enrich(concerts);
+
+            // 임대를 연장하며 샤드 행을 잠근 채 반영 (그 사이 임대를 잃었으면 반영하지 않음)
+            boolean ingested = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (shardRepository.renewLease(shard.getId(), nodeId, leaseTtl.toMillis()) == 0) {
+                    return false;
+                }
+                scraperService.ingestShard(shard.getUrl(), concerts);
+                return true;
+            }));
+            if (!ingested) {
+                logger.warn("Node {} lost lease on shard {}, discarding scraped results", nodeId, shard.getUrl());
+                return;
+            }
+        }
+
+        if (shardRepository.complete(shard.getId(), nodeId, shard.getRequestedRound()) == 0) {
+            logger.warn("Node {} lost lease on shard {} before completing", nodeId, shard.getUrl());
+        }
+    }
+
+    private static String defaultNodeId() {
+        // "pid@hostname" + 임의 접미사 (같은 호스트에서 여러 JVM 실행 시 구분)
+        return ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
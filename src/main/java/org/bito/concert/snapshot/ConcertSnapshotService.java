@@ -0,0 +1,205 @@
+package org.bito.concert.snapshot;
+
+import org.bito.concert.model.Concert;
+import org.bito.concert.service.ConcertAggregateService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 콘서트 카탈로그 바이너리 스냅샷 내보내기/가져오기
+ *
+ * 새 인스턴스 초기화나 배치 작업으로 카탈로그를 옮길 때 JSON 대신 사용합니다.
+ * 대량 행을 다루므로 JPA 엔티티를 거치지 않고 JDBC로 바로 읽고 씁니다.
+ */
+@Service
+public class ConcertSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcertSnapshotService.class);
+
+    private static final String SELECT_SQL =
+        "SELECT title, artist, venue, date, end_date, price, max_price, url, source, shard " +
+        "FROM concerts ORDER BY date, id";
+    private static final String INSERT_SQL =
+        "INSERT INTO concerts (title, artist, venue, date, end_date, price, max_price, url, source, shard) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int BATCH_SIZE = 10_000;
+    private static final int SNAPSHOTS_TO_KEEP = 2;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcertAggregateService aggregateService;
+    private final Path directory;
+    private final Duration retention;
+
+    public ConcertSnapshotService(DataSource dataSource,
+                                  TransactionTemplate transactionTemplate,
+                                  ConcertAggregateService aggregateService,
+                                  @Value("${concert.snapshot.dir:./data/snapshots}") String directory,
+                                  @Value("${concert.snapshot.retention:PT1H}") Duration retention) throws IOException {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(BATCH_SIZE);
+        this.transactionTemplate = transactionTemplate;
+        this.aggregateService = aggregateService;
+        this.directory = Path.of(directory);
+        this.retention = retention;
+        Files.createDirectories(this.directory);
+    }
+
+    /**
+     * 현재 카탈로그를 스냅샷 파일로 저장하고 경로 반환
+     * 전송 중인 이전 파일을 덮어쓰지 않도록 매번 새 파일을 만들고 오래된 파일만 정리합니다.
+     * sendfile은 응답을 반환한 뒤에 파일을 열기 때문에, 보존 기간이 지나지 않은 파일은 개수와 관계없이 남겨 둡니다.
+     */
+    public synchronized Path export() throws IOException {
+        Path target = directory.resolve(String.format("catalog-%013d.snap", System.currentTimeMillis()));
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+
+        long rows;
+        try {
+            rows = writeSnapshot(temp);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            // 실패한 내보내기의 임시 파일이 디렉터리에 쌓이지 않도록 정리
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        deleteOldSnapshots();
+
+        logger.info("Exported {} concerts to snapshot {} ({} bytes)", rows, target.getFileName(), Files.size(target));
+        return target;
+    }
+
+    private long writeSnapshot(Path temp) throws IOException {
+        try (SnapshotWriter writer = new SnapshotWriter(new BufferedOutputStream(Files.newOutputStream(temp), 64 * 1024))) {
+            jdbcTemplate.query(SELECT_SQL, (RowCallbackHandler) rs -> {
+                try {
+                    writer.write(new SnapshotRow(
+                        rs.getString("title"),
+                        rs.getString("artist"),
+                        rs.getString("venue"),
+                        rs.getObject("date", LocalDate.class),
+                        rs.getObject("end_date", LocalDate.class),
+                        rs.getObject("price", Integer.class),
+                        rs.getObject("max_price", Integer.class),
+                        rs.getString("url"),
+                        rs.getString("source"),
+                        rs.getString("shard")
+                    ));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            return writer.getRows();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 스냅샷으로 카탈로그 전체 교체 (한 트랜잭션)
+     * 집계 카운터도 적재하는 배치 단위로 함께 다시 채웁니다.
+     */
+    public long importSnapshot(InputStream input) throws IOException {
+        try {
+            Long imported = transactionTemplate.execute(status -> {
+                try (SnapshotReader reader = new SnapshotReader(input)) {
+                    jdbcTemplate.update("DELETE FROM concert_sources");
+                    jdbcTemplate.update("DELETE FROM concerts");
+                    aggregateService.clear();
+
+                    long count = 0;
+                    List<SnapshotRow> batch = new ArrayList<>(BATCH_SIZE);
+                    SnapshotRow row;
+                    while ((row = reader.read()) != null) {
+                        batch.add(row);
+                        if (batch.size() == BATCH_SIZE) {
+                            count += insertBatch(batch);
+                            batch.clear();
+                        }
+                    }
+                    count += insertBatch(batch);
+                    return count;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            logger.info("Imported {} concerts from snapshot", imported);
+            return imported;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private int insertBatch(List<SnapshotRow> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, row) -> {
+            ps.setObject(1, row.title(), Types.VARCHAR);
+            ps.setObject(2, row.artist(), Types.VARCHAR);
+            ps.setObject(3, row.venue(), Types.VARCHAR);
+            ps.setObject(4, row.date(), Types.DATE);
+            ps.setObject(5, row.endDate(), Types.DATE);
+            ps.setObject(6, row.price(), Types.INTEGER);
+            ps.setObject(7, row.maxPrice(), Types.INTEGER);
+            ps.setObject(8, row.url(), Types.VARCHAR);
+            ps.setObject(9, row.source(), Types.VARCHAR);
+            ps.setObject(10, row.shard(), Types.VARCHAR);
+        });
+
+        List<Concert> concerts = new ArrayList<>(batch.size());
+        for (SnapshotRow row : batch) {
+            Concert concert = new Concert(row.title(), row.artist(), row.venue(), row.date(),
+                row.price(), row.url(), row.source());
+            concert.setEndDate(row.endDate());
+            concert.setMaxPrice(row.maxPrice());
+            concert.setShard(row.shard());
+            concerts.add(concert);
+        }
+        aggregateService.apply(List.of(), concerts);
+
+        return batch.size();
+    }
+
+    /**
+     * 최신 SNAPSHOTS_TO_KEEP개를 넘고 보존 기간도 지난 스냅샷만 삭제
+     * 다른 요청이 방금 받아 간 파일은 아직 sendfile로 전송 중일 수 있습니다.
+     */
+    private void deleteOldSnapshots() throws IOException {
+        List<Path> snapshots;
+        try (Stream<Path> files = Files.list(directory)) {
+            snapshots = files
+                .filter(path -> path.getFileName().toString().matches("catalog-\\d+\\.snap"))
+                .sorted(Comparator.comparing(Path::getFileName).reversed())
+                .toList();
+        }
+
+        Instant cutoff = Instant.now().minus(retention);
+        for (Path old : snapshots.subList(Math.min(SNAPSHOTS_TO_KEEP, snapshots.size()), snapshots.size())) {
+            if (Files.getLastModifiedTime(old).toInstant().isBefore(cutoff)) {
+                Files.deleteIfExists(old);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.bito.concert.snapshot;
+
+/**
+ * 콘서트 카탈로그 바이너리 스냅샷 형식
+ *
+ * 헤더 (압축 안 함)
+ *   magic "BCSN" (4바이트), version (1바이트), compression (1바이트, 1 = deflate)
+ * 본문 (deflate 압축)
+ *   행마다: tag(1 = 행), flags, 필드들 ... / 마지막: tag(0), 행 수(varint)
+ *   - artist, venue, source, shard: 사전 인코딩 (처음 나온 값은 사전 번호 뒤에 문자열을 함께 기록)
+ *   - date: 직전 행 날짜와의 차이 (날짜순 정렬이라 대부분 0 또는 작은 값)
+ *   - endDate: date와의 차이
+ *   - 정수는 모두 zigzag varint (최대 10바이트)
+ *   - 문자열은 UTF-8 (최대 64 KiB)
+ */
+final class SnapshotFormat {
+
+    static final byte[] MAGIC = {'B', 'C', 'S', 'N'};
+    static final int VERSION = 1;
+    static final int COMPRESSION_DEFLATE = 1;
+
+    static final int TAG_END = 0;
+    static final int TAG_ROW = 1;
+
+    static final int HAS_DATE = 1;
+    static final int HAS_END_DATE = 1 << 1;
+    static final int HAS_PRICE = 1 << 2;
+    static final int HAS_MAX_PRICE = 1 << 3;
+
+    // 손상되거나 조작된 입력이 큰 배열을 할당하지 못하도록 하는 상한
+    static final int MAX_STRING_BYTES = 64 * 1024;
+    static final int MAX_VARINT_BYTES = 10;
+
+    private SnapshotFormat() {
+    }
+}
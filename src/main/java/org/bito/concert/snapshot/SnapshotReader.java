@@ -0,0 +1,131 @@
+package org.bito.concert.snapshot;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.InflaterInputStream;
+
+import static org.bito.concert.snapshot.SnapshotFormat.*;
+
+/**
+ * 스냅샷 읽기
+ */
+public class SnapshotReader implements Closeable {
+
+    private final DataInputStream in;
+
+    // 사전 번호 -> 값 (0번은 null 전용)
+    private final List<String> artists = newDictionary();
+    private final List<String> venues = newDictionary();
+    private final List<String> sources = newDictionary();
+    private final List<String> shards = newDictionary();
+
+    private long previousEpochDay;
+    private long rows;
+
+    public SnapshotReader(InputStream input) throws IOException {
+        byte[] magic = input.readNBytes(MAGIC.length);
+        int version = input.read();
+        int compression = input.read();
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("Not a concert snapshot");
+        }
+        if (version != VERSION || compression != COMPRESSION_DEFLATE) {
+            throw new IOException("Unsupported concert snapshot version " + version + ", compression " + compression);
+        }
+        this.in = new DataInputStream(new BufferedInputStream(new InflaterInputStream(input), 64 * 1024));
+    }
+
+    /**
+     * 다음 행 (끝이면 null)
+     */
+    public SnapshotRow read() throws IOException {
+        int tag = in.readUnsignedByte();
+        if (tag == TAG_END) {
+            long expected = readVarLong();
+            if (expected != rows) {
+                throw new IOException("Corrupt concert snapshot: expected " + expected + " rows, read " + rows);
+            }
+            return null;
+        }
+        if (tag != TAG_ROW) {
+            throw new IOException("Corrupt concert snapshot: unknown tag " + tag);
+        }
+
+        int flags = in.readUnsignedByte();
+        String title = readString();
+        String artist = readDictionary(artists);
+        String venue = readDictionary(venues);
+
+        LocalDate date = null;
+        if ((flags & HAS_DATE) != 0) {
+            previousEpochDay += readVarLong();
+            date = LocalDate.ofEpochDay(previousEpochDay);
+        }
+        LocalDate endDate = null;
+        if ((flags & HAS_END_DATE) != 0) {
+            endDate = LocalDate.ofEpochDay(previousEpochDay + readVarLong());
+        }
+        Integer price = (flags & HAS_PRICE) != 0 ? (int) readVarLong() : null;
+        Integer maxPrice = (flags & HAS_MAX_PRICE) != 0 ? (int) readVarLong() : null;
+
+        String url = readString();
+        String source = readDictionary(sources);
+        String shard = readDictionary(shards);
+
+        rows++;
+        return new SnapshotRow(title, artist, venue, date, endDate, price, maxPrice, url, source, shard);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private String readDictionary(List<String> dictionary) throws IOException {
+        long index = readVarLong();
+        if (index < 0 || index > dictionary.size()) {
+            throw new IOException("Corrupt concert snapshot: dictionary index " + index);
+        }
+        if (index < dictionary.size()) {
+            return dictionary.get((int) index);
+        }
+        String value = readString();
+        dictionary.add(value);
+        return value;
+    }
+
+    private String readString() throws IOException {
+        long length = readVarLong();
+        if (length == 0) {
+            return null;
+        }
+        if (length < 0 || length - 1 > MAX_STRING_BYTES) {
+            throw new IOException("Corrupt concert snapshot: string length " + (length - 1));
+        }
+        byte[] bytes = new byte[(int) length - 1];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private long readVarLong() throws IOException {
+        long zigzag = 0;
+        for (int i = 0; i < MAX_VARINT_BYTES; i++) {
+            int b = in.readUnsignedByte();
+            zigzag |= (long) (b & 0x7F) << (7 * i);
+            if ((b & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new IOException("Corrupt concert snapshot: varint longer than " + MAX_VARINT_BYTES + " bytes");
+    }
+
+    private static List<String> newDictionary() {
+        List<String> dictionary = new ArrayList<>();
+        dictionary.add(null);
+        return dictionary;
+    }
+}
@@ -0,0 +1,20 @@
+package org.bito.concert.snapshot;
+
+import java.time.LocalDate;
+
+/**
+ * 스냅샷에 담기는 콘서트 한 행 (id와 원본 소스 항목은 제외)
+ */
+public record SnapshotRow(
+    String title,
+    String artist,
+    String venue,
+    LocalDate date,
+    LocalDate endDate,
+    Integer price,
+    Integer maxPrice,
+    String url,
+    String source,
+    String shard
+) {
+}
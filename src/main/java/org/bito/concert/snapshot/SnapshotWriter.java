@@ -0,0 +1,123 @@
+package org.bito.concert.snapshot;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import static org.bito.concert.snapshot.SnapshotFormat.*;
+
+/**
+ * 스냅샷 쓰기 (행을 날짜순으로 넣어야 날짜 차이 인코딩 효과가 큼)
+ */
+public class SnapshotWriter implements Closeable {
+
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private final DataOutputStream out;
+
+    // 값 -> 사전 번호 (0번은 null 전용이므로 1부터)
+    private final Map<String, Integer> artists = new HashMap<>();
+    private final Map<String, Integer> venues = new HashMap<>();
+    private final Map<String, Integer> sources = new HashMap<>();
+    private final Map<String, Integer> shards = new HashMap<>();
+
+    private long previousEpochDay;
+    private long rows;
+
+    public SnapshotWriter(OutputStream output) throws IOException {
+        output.write(MAGIC);
+        output.write(VERSION);
+        output.write(COMPRESSION_DEFLATE);
+        this.out = new DataOutputStream(new BufferedOutputStream(new DeflaterOutputStream(output, deflater, 64 * 1024), 64 * 1024));
+    }
+
+    public void write(SnapshotRow row) throws IOException {
+        int flags = (row.date() != null ? HAS_DATE : 0)
+            | (row.endDate() != null ? HAS_END_DATE : 0)
+            | (row.price() != null ? HAS_PRICE : 0)
+            | (row.maxPrice() != null ? HAS_MAX_PRICE : 0);
+
+        out.write(TAG_ROW);
+        out.write(flags);
+        writeString(row.title());
+        writeDictionary(artists, row.artist());
+        writeDictionary(venues, row.venue());
+        if (row.date() != null) {
+            long epochDay = row.date().toEpochDay();
+            writeVarLong(epochDay - previousEpochDay);
+            previousEpochDay = epochDay;
+        }
+        if (row.endDate() != null) {
+            long base = row.date() != null ? row.date().toEpochDay() : previousEpochDay;
+            writeVarLong(row.endDate().toEpochDay() - base);
+        }
+        if (row.price() != null) {
+            writeVarLong(row.price());
+        }
+        if (row.maxPrice() != null) {
+            writeVarLong(row.maxPrice());
+        }
+        writeString(row.url());
+        writeDictionary(sources, row.source());
+        writeDictionary(shards, row.shard());
+        rows++;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            out.write(TAG_END);
+            writeVarLong(rows);
+            out.close();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private void writeDictionary(Map<String, Integer> dictionary, String value) throws IOException {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        Integer index = dictionary.get(value);
+        if (index != null) {
+            writeVarLong(index);
+            return;
+        }
+        // 새 값: 다음 사전 번호 + 문자열
+        index = dictionary.size() + 1;
+        dictionary.put(value, index);
+        writeVarLong(index);
+        writeString(value);
+    }
+
+    // 길이 + 1 (0은 null)
+    private void writeString(String value) throws IOException {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        // 읽는 쪽에서 거부할 값은 쓰지 않음
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IOException("String too long for concert snapshot: " + bytes.length + " bytes");
+        }
+        writeVarLong(bytes.length + 1L);
+        out.write(bytes);
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.write((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.write((int) zigzag);
+    }
+}
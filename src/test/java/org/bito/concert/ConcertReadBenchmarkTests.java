@@ -0,0 +1,151 @@
+package org.bito.concert;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.bito.concert.model.Concert;
+import org.bito.concert.repository.ConcertRepository;
+import org.bito.concert.service.ConcertScraperService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 조회 API 요청당 할당량/지연 비교
+ * - entity: 기존 방식 (관리 엔티티 조회 + 트랜잭션 안에서 엔티티 직렬화, open-in-view와 동일)
+ * - projection: 읽기 전용 트랜잭션 + DTO 생성자 projection
+ *
+ * 두 경로가 같은 JSON을 만들도록 entity 쪽은 sources/shard를 제외하고 직렬화합니다.
+ * (sources를 포함하면 행마다 지연 로딩 쿼리가 나가 N+1 비용까지 함께 측정됨)
+ *
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class ConcertReadBenchmarkTests {
+
+    private static final int ROWS = 1_000;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private ConcertRepository concertRepository;
+
+    @Autowired
+    private ConcertScraperService scraperService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ObjectMapper entityMapper;
+
+    @BeforeEach
+    void setUp() {
+        entityMapper = objectMapper.copy().addMixIn(Concert.class, ConcertPayloadMixin.class);
+
+        List<Concert> concerts = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            concerts.add(new Concert(
+                "콘서트 " + i,
+                "아티스트 " + (i % 50),
+                "공연장 " + (i % 20),
+                LocalDate.now().plusDays(i % 90),
+                (i % 10) * 5000,
+                "https://example.com/concert/" + i,
+                "Benchmark"
+            ));
+        }
+        concertRepository.saveAll(concerts);
+    }
+
+    @AfterEach
+    void tearDown() {
+        concertRepository.deleteAll();
+    }
+
+    @Test
+    void compareEntityAndProjectionReads() throws Exception {
+        Callable<byte[]> entityRequest = () -> transactionTemplate.execute(status -> {
+            List<Concert> concerts = entityManager
+                .createQuery("SELECT c FROM Concert c ORDER BY c.date ASC", Concert.class)
+                .getResultList();
+            return serialize(entityMapper, concerts);
+        });
+        Callable<byte[]> projectionRequest = () -> serialize(objectMapper, scraperService.getAllConcerts());
+
+        assertEquals(payload(entityRequest.call()), payload(projectionRequest.call()),
+            "두 경로의 응답 본문이 달라 비교가 의미 없음");
+
+        Result entity = measure(entityRequest);
+        Result projection = measure(projectionRequest);
+
+        System.out.printf("entity     : %,12d bytes/request, %8.2f ms/request%n", entity.bytes(), entity.millis());
+        System.out.printf("projection : %,12d bytes/request, %8.2f ms/request%n", projection.bytes(), projection.millis());
+        System.out.printf("reduction  : %.1f%% bytes, %.1f%% latency%n",
+            100.0 * (entity.bytes() - projection.bytes()) / entity.bytes(),
+            100.0 * (entity.millis() - projection.millis()) / entity.millis());
+    }
+
+    private static byte[] serialize(ObjectMapper mapper, Object value) {
+        try {
+            return mapper.writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 같은 날짜끼리는 순서가 보장되지 않으므로 행 집합으로 비교
+    private Set<JsonNode> payload(byte[] json) throws IOException {
+        Set<JsonNode> rows = new HashSet<>();
+        objectMapper.readTree(json).forEach(rows::add);
+        return rows;
+    }
+
+    private Result measure(Callable<?> request) throws Exception {
+        com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        for (int i = 0; i < WARMUP; i++) {
+            request.call();
+        }
+
+        long startBytes = threadBean.getCurrentThreadAllocatedBytes();
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            request.call();
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long allocated = threadBean.getCurrentThreadAllocatedBytes() - startBytes;
+
+        return new Result(allocated / ITERATIONS, elapsedNanos / 1_000_000.0 / ITERATIONS);
+    }
+
+    private record Result(long bytes, double millis) {
+    }
+
+    @JsonIgnoreProperties({"sources", "shard"})
+    private abstract static class ConcertPayloadMixin {
+    }
+}
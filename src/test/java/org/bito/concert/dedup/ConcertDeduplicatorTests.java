@@ -0,0 +1,128 @@
+package org.bito.concert.dedup;
+
+import org.bito.concert.model.Concert;
+import org.bito.concert.model.ConcertSource;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcertDeduplicatorTests {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 11, 2);
+
+    private final ConcertDeduplicator deduplicator = new ConcertDeduplicator();
+
+    @Test
+    void mergesTitleVariantsAtSameDateAndVenue() {
+        List<Concert> merged = deduplicator.deduplicate(List.of(
+            concert("아이유 콘서트 HER", "올림픽공원 체조경기장", DATE),
+            concert("[서울] 아이유 콘서트 <HER>", "올림픽 공원체조경기장", DATE),
+            concert("아이유콘서트 HER", "올림픽공원체조경기장", DATE)
+        ));
+
+        assertEquals(1, merged.size());
+        assertEquals(3, merged.get(0).getSources().size());
+    }
+
+    @Test
+    void keepsDifferentDatesAndShowsSeparate() {
+        List<Concert> merged = deduplicator.deduplicate(List.of(
+            concert("아이유 콘서트 HER", "올림픽공원", DATE),
+            concert("아이유 콘서트 HER", "올림픽공원", DATE.plusDays(1)),
+            concert("클래식 피아노 리사이틀", "올림픽공원", DATE),
+            concert("아이유 콘서트 HER", "예술의전당", DATE)
+        ));
+
+        assertEquals(4, merged.size());
+    }
+
+    @Test
+    void comparesAgainstEveryBucketMemberNotOnlyTheFirst() {
+        // 세 항목이 같은 밴드 버킷에 들어가지만 첫 항목은 나머지와 유사도 기준에 못 미치고,
+        // 뒤의 두 항목끼리는 기준을 넘음 (첫 항목과만 비교하면 병합되지 않는 조합)
+        List<Concert> merged = deduplicator.deduplicate(List.of(
+            concert("[단독] 얼리버드 SEOUL 아이유", "올림픽공원", DATE),
+            concert("SEOUL 아이유 SEOUL 공연", "올림픽공원", DATE),
+            concert("SEOUL 아이유 2", "올림픽공원", DATE)
+        ));
+
+        assertEquals(2, merged.size());
+        assertEquals(1, merged.get(0).getSources().size());
+        assertEquals(2, merged.get(1).getSources().size());
+    }
+
+    @Test
+    void picksMostCompleteEntryAsRepresentative() {
+        Concert sparse = concert("아이유 콘서트 HER", "올림픽공원", DATE);
+        sparse.setArtist("Various");
+        sparse.setPrice(null);
+        sparse.setUrl(null);
+
+        Concert complete = concert("[서울] 아이유 콘서트 HER", "올림픽공원", DATE);
+        complete.setArtist("아이유");
+        complete.setPrice(99000);
+        complete.setUrl("https://example.com/goods/1");
+
+        Concert canonical = deduplicator.deduplicate(List.of(sparse, complete)).get(0);
+
+        assertEquals("[서울] 아이유 콘서트 HER", canonical.getTitle());
+        assertEquals("아이유", canonical.getArtist());
+        assertEquals(99000, canonical.getPrice());
+        assertEquals("https://example.com/goods/1", canonical.getUrl());
+    }
+
+    @Test
+    void backfillsArtistAndPriceFromOtherMembers() {
+        Concert withUrl = concert("아이유 콘서트 HER", "올림픽공원", DATE);
+        withUrl.setArtist("Various");
+        withUrl.setPrice(null);
+        withUrl.setUrl("https://example.com/goods/1");
+
+        Concert withArtist = concert("아이유 콘서트 HER", "올림픽공원", DATE);
+        withArtist.setArtist("아이유");
+        withArtist.setPrice(null);
+        withArtist.setUrl(null);
+
+        Concert withPrice = concert("아이유 콘서트 HER", "올림픽공원", DATE);
+        withPrice.setArtist(null);
+        withPrice.setPrice(77000);
+        withPrice.setMaxPrice(99000);
+        withPrice.setUrl(null);
+        withPrice.setEndDate(DATE.plusDays(1));
+
+        Concert canonical = deduplicator.deduplicate(List.of(withUrl, withArtist, withPrice)).get(0);
+
+        assertEquals("https://example.com/goods/1", canonical.getUrl());
+        assertEquals("아이유", canonical.getArtist());
+        assertEquals(77000, canonical.getPrice());
+        assertEquals(99000, canonical.getMaxPrice());
+        assertEquals(DATE.plusDays(1), canonical.getEndDate());
+    }
+
+    @Test
+    void remergingCanonicalRecordsKeepsOriginalSources() {
+        List<Concert> first = deduplicator.deduplicate(List.of(
+            concert("아이유 콘서트 HER", "올림픽공원", DATE),
+            concert("[서울] 아이유 콘서트 HER", "올림픽공원", DATE)
+        ));
+        List<Concert> second = deduplicator.deduplicate(List.of(
+            concert("아이유 콘서트 <HER>", "올림픽공원", DATE)
+        ));
+
+        List<Concert> merged = deduplicator.deduplicate(List.of(first.get(0), second.get(0)));
+
+        assertEquals(1, merged.size());
+        List<ConcertSource> sources = merged.get(0).getSources();
+        assertEquals(3, sources.size());
+        assertTrue(sources.stream().allMatch(source -> source.getConcert() == merged.get(0)));
+        assertEquals(List.of("아이유 콘서트 HER", "[서울] 아이유 콘서트 HER", "아이유 콘서트 <HER>"),
+            sources.stream().map(ConcertSource::getTitle).toList());
+    }
+
+    private static Concert concert(String title, String venue, LocalDate date) {
+        return new Concert(title, "아티스트", venue, date, 10000, "https://example.com/" + title.hashCode(), "Test");
+    }
+}
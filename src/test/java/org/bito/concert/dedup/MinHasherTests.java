@@ -0,0 +1,53 @@
+package org.bito.concert.dedup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MinHasherTests {
+
+    private final MinHasher minHasher = new MinHasher(256, 42L);
+
+    @Test
+    void identicalSetsHaveIdenticalSignatures() {
+        Set<String> shingles = TextNormalizer.shingles("아이유 콘서트 her", 3);
+        assertArrayEquals(minHasher.signature(shingles), minHasher.signature(new HashSet<>(shingles)));
+        assertEquals(1.0, MinHasher.similarity(minHasher.signature(shingles), minHasher.signature(shingles)));
+    }
+
+    @Test
+    void sameSeedGivesSameSignature() {
+        Set<String> shingles = TextNormalizer.shingles("서울 재즈 페스티벌", 3);
+        assertArrayEquals(new MinHasher(256, 42L).signature(shingles), minHasher.signature(shingles));
+    }
+
+    @Test
+    void similarityApproximatesJaccard() {
+        // 20개 중 10개 공유: Jaccard = 10 / 30
+        Set<String> a = new HashSet<>();
+        Set<String> b = new HashSet<>();
+        for (int i = 0; i < 20; i++) {
+            a.add("s" + i);
+            b.add("s" + (i + 10));
+        }
+
+        double similarity = MinHasher.similarity(minHasher.signature(a), minHasher.signature(b));
+        assertEquals(1.0 / 3, similarity, 0.1);
+    }
+
+    @Test
+    void disjointSetsAreDissimilar() {
+        int[] a = minHasher.signature(TextNormalizer.shingles("클래식 피아노 리사이틀", 3));
+        int[] b = minHasher.signature(TextNormalizer.shingles("힙합 페스티벌 서울", 3));
+        assertTrue(MinHasher.similarity(a, b) < 0.1);
+    }
+
+    @Test
+    void signatureLengthMatchesHashCount() {
+        assertEquals(256, minHasher.numHashes());
+        assertEquals(256, minHasher.signature(Set.of("abc")).length);
+    }
+}
@@ -0,0 +1,45 @@
+package org.bito.concert.dedup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TextNormalizerTests {
+
+    @Test
+    void normalizeTitleRemovesSymbolsAndLowercases() {
+        assertEquals("서울 아이유 콘서트 her", TextNormalizer.normalizeTitle("[서울] 아이유 콘서트 <HER>"));
+    }
+
+    @Test
+    void normalizeTitleUnifiesFullWidthCharacters() {
+        assertEquals("iu concert 2025", TextNormalizer.normalizeTitle("ＩＵ　Ｃｏｎｃｅｒｔ　２０２５"));
+    }
+
+    @Test
+    void normalizeTitleHandlesNull() {
+        assertEquals("", TextNormalizer.normalizeTitle(null));
+    }
+
+    @Test
+    void normalizeVenueIgnoresSpacing() {
+        assertEquals(TextNormalizer.normalizeVenue("올림픽공원 체조경기장"),
+            TextNormalizer.normalizeVenue("올림픽 공원체조경기장"));
+        assertEquals("올림픽공원체조경기장", TextNormalizer.normalizeVenue("올림픽공원 (체조경기장)"));
+        assertEquals("", TextNormalizer.normalizeVenue(null));
+    }
+
+    @Test
+    void shinglesIgnoreSpaces() {
+        assertEquals(Set.of("아이유", "이유콘", "유콘서", "콘서트"), TextNormalizer.shingles("아이유 콘서트", 3));
+    }
+
+    @Test
+    void shortTitleBecomesSingleShingle() {
+        assertEquals(Set.of("쇼"), TextNormalizer.shingles("쇼", 3));
+        assertTrue(TextNormalizer.shingles("", 3).contains(""));
+    }
+}
@@ -0,0 +1,98 @@
+package org.bito.concert.history;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentPriceHistoryStoreTests {
+
+    private static final Instant T0 = Instant.parse("2025-11-01T00:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void skipsUnchangedPrices() throws IOException {
+        SegmentPriceHistoryStore store = open(10);
+        try {
+            assertTrue(store.append("A", T0, 99000));
+            assertFalse(store.append("A", T0.plusSeconds(60), 99000));
+            assertTrue(store.append("A", T0.plusSeconds(120), 77000));
+
+            assertEquals(2, store.getHistory("A").size());
+            assertEquals(2, store.getSummary("A").orElseThrow().changes());
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    void restoresSummariesAndHistoryAcrossRolledSegmentsAfterReopen() throws IOException {
+        SegmentPriceHistoryStore store = open(2);
+        store.append("A", T0, 99000);
+        store.append("B", T0, 0);
+        // 세그먼트당 2개이므로 여기서 새 세그먼트로 넘어감
+        store.append("A", T0.plusSeconds(60), 77000);
+        store.append("A", T0.plusSeconds(120), 110000);
+        store.append("B", T0.plusSeconds(120), 5000);
+        store.close();
+
+        assertTrue(Files.exists(directory.resolve("segment-00001.dat")));
+        assertTrue(Files.exists(directory.resolve("segment-00002.dat")));
+
+        SegmentPriceHistoryStore reopened = open(2);
+        try {
+            assertEquals(new PriceSummary(77000, 110000, 110000, T0, T0.plusSeconds(120), 3),
+                reopened.getSummary("A").orElseThrow());
+            assertEquals(new PriceSummary(0, 5000, 5000, T0, T0.plusSeconds(120), 2),
+                reopened.getSummary("B").orElseThrow());
+            assertEquals(List.of(
+                new PriceObservation(T0, 99000),
+                new PriceObservation(T0.plusSeconds(60), 77000),
+                new PriceObservation(T0.plusSeconds(120), 110000)
+            ), reopened.getHistory("A"));
+
+            // 재시작 후에도 직전 가격 비교와 기존 키 번호가 유지됨
+            assertFalse(reopened.append("A", T0.plusSeconds(180), 110000));
+            assertTrue(reopened.append("C", T0.plusSeconds(180), 30000));
+            assertEquals(List.of(new PriceObservation(T0.plusSeconds(180), 30000)), reopened.getHistory("C"));
+            assertEquals(List.of(new PriceObservation(T0, 0), new PriceObservation(T0.plusSeconds(120), 5000)),
+                reopened.getHistory("B"));
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    void refusesDirectoryAlreadyInUse() throws IOException {
+        SegmentPriceHistoryStore store = open(10);
+        try {
+            assertThrows(IllegalStateException.class, () -> open(10));
+        } finally {
+            store.close();
+        }
+        open(10).close();
+    }
+
+    @Test
+    void unknownKeyHasNoHistory() throws IOException {
+        SegmentPriceHistoryStore store = open(10);
+        try {
+            assertTrue(store.getSummary("missing").isEmpty());
+            assertEquals(List.of(), store.getHistory("missing"));
+        } finally {
+            store.close();
+        }
+    }
+
+    private SegmentPriceHistoryStore open(int recordsPerSegment) throws IOException {
+        return new SegmentPriceHistoryStore(directory.toString(), recordsPerSegment);
+    }
+}
@@ -0,0 +1,25 @@
+package org.bito.concert.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PriceBucketTests {
+
+    @Test
+    void mapsBoundaryPricesToBuckets() {
+        assertEquals(PriceBucket.UNKNOWN, PriceBucket.of(null));
+        assertEquals(PriceBucket.FREE, PriceBucket.of(0));
+        assertEquals(PriceBucket.UP_TO_10000, PriceBucket.of(1));
+        assertEquals(PriceBucket.UP_TO_10000, PriceBucket.of(10000));
+        assertEquals(PriceBucket.UP_TO_30000, PriceBucket.of(10001));
+        assertEquals(PriceBucket.UP_TO_100000, PriceBucket.of(100000));
+        assertEquals(PriceBucket.OVER_100000, PriceBucket.of(100001));
+        assertEquals(PriceBucket.OVER_100000, PriceBucket.of(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void cheapThresholdMatchesBucketBoundary() {
+        assertEquals(Concert.CHEAP_PRICE_THRESHOLD, PriceBucket.UP_TO_10000.getMaxPrice());
+    }
+}
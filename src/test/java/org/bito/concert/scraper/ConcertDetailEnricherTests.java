@@ -0,0 +1,100 @@
+package org.bito.concert.scraper;
+
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ConcertDetailEnricherTests {
+
+    @Test
+    void extractsSeatPriceTiers() {
+        assertEquals(List.of(77000, 99000), priceTiers("""
+            <ul class="infoPrice">
+              <li>R석 99,000원</li>
+              <li>S석 77,000원</li>
+            </ul>
+            """));
+    }
+
+    @Test
+    void extractsTiersFromTableAndDefinitionRows() {
+        assertEquals(List.of(55000, 132000), priceTiers("""
+            <table class="priceTable"><tr><th>VIP석</th><td>132,000원</td></tr></table>
+            <dl class="price"><dt>스탠딩</dt><dd>55,000원</dd></dl>
+            """));
+    }
+
+    @Test
+    void ignoresFreeCancellationAndConditionalFreeEntry() {
+        assertEquals(List.of(99000), priceTiers("""
+            <div class="price">
+              <ul>
+                <li>R석 99,000원</li>
+                <li>예매 후 24시간 이내 무료취소</li>
+                <li>장애인 무료 (동반 1인)</li>
+                <li>장애인석 무료</li>
+              </ul>
+            </div>
+            """));
+    }
+
+    @Test
+    void ignoresBookingFees() {
+        assertEquals(List.of(66000), priceTiers("""
+            <ul class="price">
+              <li>전석 66,000원</li>
+              <li>예매수수료 2,000원</li>
+              <li>배송료 3,200원</li>
+            </ul>
+            """));
+    }
+
+    @Test
+    void recognizesFreeAsTierValue() {
+        assertEquals(List.of(0), priceTiers("<ul class=\"price\"><li>전석 무료</li></ul>"));
+        assertEquals(List.of(0), priceTiers("<span class=\"price\">무료</span>"));
+    }
+
+    @Test
+    void returnsEmptyWhenNoSeatPriceFound() {
+        assertEquals(List.of(), priceTiers("<div class=\"price\">가격 정보는 추후 공지</div>"));
+        assertEquals(List.of(), priceTiers("<div class=\"price\">무료 주차 가능</div>"));
+    }
+
+    @Test
+    void extractsEachCastNameOnce() {
+        assertEquals("IU PHS", artist("""
+            <div class="castList"><ul>
+              <li><span class="castName">IU</span></li>
+              <li><span class="castName">PHS</span></li>
+            </ul></div>
+            """));
+    }
+
+    @Test
+    void fallsBackToArtistThenCastContainer() {
+        assertEquals("아이유", artist("<div class=\"castList\"><p>x</p></div><p class=\"artistName\">아이유</p>"));
+        assertEquals("아이유 밴드", artist("<div class=\"cast\"><p class=\"cast-item\">아이유 밴드</p></div>"));
+    }
+
+    @Test
+    void ignoresClassesThatOnlyContainCast() {
+        assertNull(artist("<div class=\"broadcast\">생중계</div><div class=\"forecast\">맑음</div>"));
+        assertEquals("아이유", artist("""
+            <div class="broadcast">생중계</div>
+            <dl><dt>출연</dt><dd>아이유</dd></dl>
+            """));
+    }
+
+    private static String artist(String html) {
+        return ConcertDetailEnricher.extractArtist(Jsoup.parse(html));
+    }
+
+    private static List<Integer> priceTiers(String html) {
+        return ConcertDetailEnricher.extractPriceTiers(Jsoup.parse(html));
+    }
+}
@@ -0,0 +1,98 @@
+package org.bito.concert.scraper;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DetailCacheTests {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-11-01T00:00:00Z"));
+
+    @Test
+    void returnsEntryUntilTtlExpires() {
+        DetailCache cache = new DetailCache(10, Duration.ofHours(6), clock);
+        ConcertDetail detail = detail("아이유");
+        cache.put("A", detail);
+
+        clock.advance(Duration.ofHours(6));
+        assertSame(detail, cache.get("A"));
+
+        clock.advance(Duration.ofSeconds(1));
+        assertNull(cache.get("A"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void putRefreshesFetchTime() {
+        DetailCache cache = new DetailCache(10, Duration.ofHours(1), clock);
+        cache.put("A", detail("old"));
+
+        clock.advance(Duration.ofMinutes(50));
+        ConcertDetail refreshed = detail("new");
+        cache.put("A", refreshed);
+
+        clock.advance(Duration.ofMinutes(50));
+        assertSame(refreshed, cache.get("A"));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntry() {
+        DetailCache cache = new DetailCache(2, Duration.ofHours(6), clock);
+        cache.put("A", detail("a"));
+        cache.put("B", detail("b"));
+
+        // A를 조회해 최근 사용으로 만든 뒤 C를 넣으면 B가 제거됨
+        assertNotNull(cache.get("A"));
+        cache.put("C", detail("c"));
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("A"));
+        assertNull(cache.get("B"));
+        assertNotNull(cache.get("C"));
+    }
+
+    @Test
+    void missingKeyReturnsNull() {
+        DetailCache cache = new DetailCache(2, Duration.ofHours(6), clock);
+        assertNull(cache.get("missing"));
+    }
+
+    private static ConcertDetail detail(String artist) {
+        return new ConcertDetail(artist, List.of(), null, null);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package org.bito.concert.service;
+
+import org.bito.concert.model.Concert;
+import org.bito.concert.service.ConcertAggregateService.Delta;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcertAggregateServiceTests {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 11, 2);
+
+    @Test
+    void countsEveryDayAndIsoWeekOfRunOnce() {
+        // 2025-12-29(월) ~ 2026-01-02(금)는 모두 2026-W01
+        Concert concert = concert(LocalDate.of(2025, 12, 29), LocalDate.of(2026, 1, 2), 50000);
+
+        SortedMap<String, Delta> deltas = ConcertAggregateService.deltas(List.of(), List.of(concert));
+
+        assertEquals(List.of("DAY:2025-12-29", "DAY:2025-12-30", "DAY:2025-12-31", "DAY:2026-01-01", "DAY:2026-01-02"),
+            keys(deltas, "DAY:"));
+        assertEquals(List.of("WEEK:2026-W01"), keys(deltas, "WEEK:"));
+        assertEquals(1, deltas.get("WEEK:2026-W01").total());
+        assertEquals(1, deltas.get("PRICE_BUCKET:UP_TO_50000").total());
+        assertEquals(1, deltas.get("VENUE:올림픽공원").total());
+    }
+
+    @Test
+    void countsEachWeekOfRunSpanningWeeks() {
+        // 일요일 시작 -> 다음 주 월요일 종료
+        Concert concert = concert(LocalDate.of(2025, 11, 2), LocalDate.of(2025, 11, 3), 50000);
+
+        SortedMap<String, Delta> deltas = ConcertAggregateService.deltas(List.of(), List.of(concert));
+
+        assertEquals(List.of("WEEK:2025-W44", "WEEK:2025-W45"), keys(deltas, "WEEK:"));
+    }
+
+    @Test
+    void endDateBeforeStartCountsStartDayOnly() {
+        Concert concert = concert(DATE, DATE.minusDays(3), 50000);
+
+        SortedMap<String, Delta> deltas = ConcertAggregateService.deltas(List.of(), List.of(concert));
+
+        assertEquals(List.of("DAY:" + DATE), keys(deltas, "DAY:"));
+        assertEquals(1, keys(deltas, "WEEK:").size());
+    }
+
+    @Test
+    void capsLongRuns() {
+        Concert concert = concert(DATE, DATE.plusYears(5), 50000);
+
+        SortedMap<String, Delta> deltas = ConcertAggregateService.deltas(List.of(), List.of(concert));
+
+        List<String> days = keys(deltas, "DAY:");
+        assertEquals(ConcertAggregateService.MAX_SPAN_DAYS, days.size());
+        assertEquals("DAY:" + DATE, days.get(0));
+        assertEquals("DAY:" + DATE.plusDays(ConcertAggregateService.MAX_SPAN_DAYS - 1), days.get(days.size() - 1));
+    }
+
+    @Test
+    void countsFreeAndCheapAtBoundaries() {
+        SortedMap<String, Delta> deltas = ConcertAggregateService.deltas(List.of(), List.of(
+            concert(DATE, null, 0),
+            concert(DATE, null, 10000),
+            concert(DATE, null, 10001),
+            concert(DATE, null, null)
+        ));
+
+        Delta day = deltas.get("DAY:" + DATE);
+        assertEquals(4, day.total());
+        assertEquals(1, day.free());
+        assertEquals(2, day.cheap());
+        assertEquals(1, deltas.get("PRICE_BUCKET:FREE").total());
+        assertEquals(1, deltas.get("PRICE_BUCKET:UP_TO_10000").cheap());
+        assertEquals(0, deltas.get("PRICE_BUCKET:UP_TO_30000").cheap());
+        assertEquals(1, deltas.get("PRICE_BUCKET:UNKNOWN").total());
+    }
+
+    @Test
+    void removingAndAddingSameConcertNetsToNothing() {
+        Concert before = concert(LocalDate.of(2025, 12, 29), LocalDate.of(2026, 1, 2), 0);
+        Concert after = concert(LocalDate.of(2025, 12, 29), LocalDate.of(2026, 1, 2), 0);
+
+        assertTrue(ConcertAggregateService.deltas(List.of(before), List.of(after)).isEmpty());
+    }
+
+    @Test
+    void priceChangeMovesOnlyPriceCounters() {
+        Concert before = concert(DATE, null, 5000);
+        Concert after = concert(DATE, null, 20000);
+
+        SortedMap<String, Delta> deltas = ConcertAggregateService.deltas(List.of(before), List.of(after));
+
+        assertEquals(-1, deltas.get("PRICE_BUCKET:UP_TO_10000").total());
+        assertEquals(1, deltas.get("PRICE_BUCKET:UP_TO_30000").total());
+        // 날짜/장소 카운터는 총합은 그대로, 저렴한 콘서트 수만 줄어듦
+        Delta day = deltas.get("DAY:" + DATE);
+        assertEquals(0, day.total());
+        assertEquals(-1, day.cheap());
+    }
+
+    private static List<String> keys(Map<String, Delta> deltas, String prefix) {
+        return deltas.keySet().stream().filter(key -> key.startsWith(prefix)).toList();
+    }
+
+    private static Concert concert(LocalDate date, LocalDate endDate, Integer price) {
+        Concert concert = new Concert("콘서트", "아티스트", "올림픽공원", date, price, "https://example.com/1", "Test");
+        concert.setEndDate(endDate);
+        return concert;
+    }
+}
@@ -0,0 +1,144 @@
+package org.bito.concert.service;
+
+import org.bito.concert.model.Concert;
+import org.bito.concert.model.ConcertSource;
+import org.bito.concert.model.ScrapeShard;
+import org.bito.concert.repository.ConcertRepository;
+import org.bito.concert.repository.ScrapeShardRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 클러스터 모드의 샤드 임대(H2 네이티브 쿼리)와 샤드 수집 재병합 검증
+ * 임대 만료는 음수 TTL로 DB 시각보다 이른 만료 시각을 만들어 재현합니다.
+ */
+@SpringBootTest
+class ShardCoordinationTests {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 11, 2);
+    private static final String SHARD_A = "https://example.com/list?page=1";
+    private static final String SHARD_B = "https://example.com/list?page=2";
+    private static final String SHARD_C = "https://example.com/list?page=3";
+    private static final long TTL = 60_000;
+
+    @Autowired
+    private ScrapeShardRepository shardRepository;
+
+    @Autowired
+    private ConcertRepository concertRepository;
+
+    @Autowired
+    private ConcertScraperService scraperService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        concertRepository.deleteAll();
+        shardRepository.deleteAll();
+    }
+
+    @Test
+    void claimFailsWhileLeaseIsLiveAndSucceedsAfterExpiry() {
+        Long id = pendingShard(SHARD_A).getId();
+
+        assertEquals(1, shardRepository.claim(id, "node-1", TTL));
+        assertEquals(0, shardRepository.claim(id, "node-2", TTL));
+
+        // node-1의 임대를 DB 시각 기준으로 이미 지난 시각으로 옮김
+        assertEquals(1, shardRepository.renewLease(id, "node-1", -TTL));
+        assertEquals(1, shardRepository.findClaimable().size());
+        assertEquals(1, shardRepository.claim(id, "node-2", TTL));
+        assertEquals("node-2", shardRepository.findById(id).orElseThrow().getOwner());
+
+        // 임대를 잃은 인스턴스는 연장/완료할 수 없음
+        assertEquals(0, shardRepository.renewLease(id, "node-1", TTL));
+        assertEquals(0, shardRepository.complete(id, "node-1", 1));
+        assertEquals(1, shardRepository.complete(id, "node-2", 1));
+        assertEquals(0, shardRepository.countPending());
+    }
+
+    @Test
+    void holdAllDoesNotTakeLiveLeasesAndBlocksClaims() {
+        Long busy = pendingShard(SHARD_A).getId();
+        Long idle = pendingShard(SHARD_B).getId();
+        assertEquals(1, shardRepository.claim(busy, "node-1", TTL));
+
+        // 작업 중인 샤드가 있으면 배리어를 얻지 못함
+        assertTrue(shardRepository.holdAll("leader", TTL) < shardRepository.count());
+        assertEquals(0, shardRepository.claim(idle, "node-2", TTL));
+
+        assertEquals(1, shardRepository.complete(busy, "node-1", 1));
+        assertEquals(2, shardRepository.holdAll("leader", TTL));
+        assertEquals(0, shardRepository.claim(idle, "node-2", TTL));
+
+        assertEquals(2, shardRepository.releaseAll("leader"));
+        assertEquals(1, shardRepository.claim(idle, "node-2", TTL));
+    }
+
+    @Test
+    void reingestReplacesEntryMergedIntoOtherShardsRecord() {
+        scraperService.ingestShard(SHARD_A, List.of(concert("아이유 콘서트 HER", "올림픽공원", 99000, "a")));
+        scraperService.ingestShard(SHARD_B, List.of(concert("[서울] 아이유 콘서트 HER", "올림픽공원", 99000, "b")));
+        assertEquals(List.of(SHARD_A + "=99000", SHARD_B + "=99000"), sourcesOfOnlyRecord());
+
+        // A의 이전 항목은 B 수집 때 만든 레코드에 병합돼 있지만, A를 다시 수집하면 그 항목만 교체됨
+        scraperService.ingestShard(SHARD_A, List.of(concert("아이유 콘서트 HER", "올림픽공원", 88000, "a")));
+        assertEquals(List.of(SHARD_A + "=88000", SHARD_B + "=99000"), sourcesOfOnlyRecord());
+    }
+
+    @Test
+    void ingestLeavesUnrelatedRecordsUntouched() {
+        scraperService.ingestShard(SHARD_C, List.of(
+            concert("클래식 피아노 리사이틀", "예술의전당", 50000, "c1"),
+            concert("재즈 나이트", "블루스퀘어", 30000, "c2", DATE.plusDays(7))
+        ));
+        List<Long> before = concertRepository.findAll().stream().map(Concert::getId).sorted().toList();
+
+        // 같은 날짜(잠금/재병합 대상)와 다른 날짜 모두 포함
+        scraperService.ingestShard(SHARD_A, List.of(concert("아이유 콘서트 HER", "올림픽공원", 99000, "a")));
+        scraperService.ingestShard(SHARD_A, List.of(concert("아이유 콘서트 HER", "올림픽공원", 88000, "a")));
+
+        List<Concert> after = concertRepository.findAll();
+        assertEquals(3, after.size());
+        assertTrue(after.stream().map(Concert::getId).toList().containsAll(before));
+    }
+
+    private ScrapeShard pendingShard(String url) {
+        ScrapeShard shard = new ScrapeShard(url);
+        shard.setRequestedRound(1);
+        return shardRepository.save(shard);
+    }
+
+    /**
+     * 레코드가 하나뿐인지 확인하고 그 원본 항목을 "샤드=가격" 형태로 반환
+     */
+    private List<String> sourcesOfOnlyRecord() {
+        return transactionTemplate.execute(status -> {
+            List<Concert> concerts = concertRepository.findAll();
+            assertEquals(1, concerts.size());
+            return concerts.get(0).getSources().stream()
+                .sorted(Comparator.comparing(ConcertSource::getShard))
+                .map(source -> source.getShard() + "=" + source.getPrice())
+                .toList();
+        });
+    }
+
+    private static Concert concert(String title, String venue, int price, String code) {
+        return concert(title, venue, price, code, DATE);
+    }
+
+    private static Concert concert(String title, String venue, int price, String code, LocalDate date) {
+        return new Concert(title, "아티스트", venue, date, price, "https://example.com/goods/" + code, "Test");
+    }
+}
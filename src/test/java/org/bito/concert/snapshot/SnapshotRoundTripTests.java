@@ -0,0 +1,187 @@
+package org.bito.concert.snapshot;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotRoundTripTests {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 11, 2);
+
+    @Test
+    void roundTripsRowsWithNullFields() throws IOException {
+        List<SnapshotRow> rows = List.of(
+            new SnapshotRow("아이유 콘서트", "아이유", "올림픽공원", DATE, DATE.plusDays(2),
+                99000, 154000, "https://example.com/1", "Interpark", "https://example.com/list?page=1"),
+            new SnapshotRow(null, null, null, null, null, null, null, null, null, null),
+            new SnapshotRow("", "", "", DATE, null, 0, null, "", "", "")
+        );
+
+        assertEquals(rows, roundTrip(rows));
+    }
+
+    @Test
+    void reusesDictionaryEntries() throws IOException {
+        List<SnapshotRow> repeated = new ArrayList<>();
+        List<SnapshotRow> distinct = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            repeated.add(row("콘서트 " + i, "같은 아티스트 이름", "같은 공연장 이름", DATE));
+            distinct.add(row("콘서트 " + i, "아티스트 " + i, "공연장 " + i, DATE));
+        }
+
+        byte[] encoded = encode(repeated);
+        assertEquals(repeated, decode(encoded));
+        // 반복되는 값은 처음 한 번만 문자열로 기록됨
+        assertTrue(encoded.length < encode(distinct).length);
+
+        // 사전 번호가 값마다 따로 매겨지므로 섞여 나와도 올바르게 복원됨
+        List<SnapshotRow> interleaved = List.of(
+            row("a", "X", "V1", DATE),
+            row("b", "Y", "V1", DATE),
+            row("c", "X", "V2", DATE),
+            row("d", null, "V1", DATE),
+            row("e", "Y", null, DATE)
+        );
+        assertEquals(interleaved, roundTrip(interleaved));
+    }
+
+    @Test
+    void handlesNegativeDateDeltas() throws IOException {
+        // 날짜순이 아닌 입력, 시작일보다 이른 종료일, 날짜 없는 행 다음의 종료일
+        List<SnapshotRow> rows = List.of(
+            row("a", "X", "V", DATE.plusDays(30)),
+            row("b", "X", "V", DATE),
+            row("c", "X", "V", LocalDate.of(1969, 12, 31)),
+            new SnapshotRow("d", "X", "V", DATE, DATE.minusDays(3), 1000, 2000, null, null, null),
+            new SnapshotRow("e", "X", "V", null, DATE.minusDays(10), null, null, null, null, null)
+        );
+
+        assertEquals(rows, roundTrip(rows));
+    }
+
+    @Test
+    void rejectsRowCountTrailerMismatch() throws IOException {
+        // zigzag varint 10 = 5: 행 5개라고 기록했지만 실제 행은 없음
+        IOException error = assertThrows(IOException.class, () -> readBody(SnapshotFormat.TAG_END, 10));
+        assertTrue(error.getMessage().contains("expected 5 rows, read 0"));
+    }
+
+    @Test
+    void rejectsOversizedStringLength() {
+        // 제목 길이 Integer.MAX_VALUE - 1: 배열을 할당하기 전에 거부해야 함
+        IOException error = assertThrows(IOException.class,
+            () -> readBody(SnapshotFormat.TAG_ROW, 0, 0xFE, 0xFF, 0xFF, 0xFF, 0x0F));
+        assertEquals("Corrupt concert snapshot: string length 2147483646", error.getMessage());
+
+        int justOver = (SnapshotFormat.MAX_STRING_BYTES + 2) * 2;
+        assertThrows(IOException.class, () -> readBody(SnapshotFormat.TAG_ROW, 0,
+            (justOver & 0x7F) | 0x80, ((justOver >>> 7) & 0x7F) | 0x80, justOver >>> 14));
+    }
+
+    @Test
+    void rejectsNegativeLengthAndDictionaryIndex() {
+        // zigzag 1 = -1
+        IOException length = assertThrows(IOException.class, () -> readBody(SnapshotFormat.TAG_ROW, 0, 1));
+        assertTrue(length.getMessage().startsWith("Corrupt concert snapshot: string length"));
+
+        IOException index = assertThrows(IOException.class, () -> readBody(SnapshotFormat.TAG_ROW, 0, 0, 1));
+        assertEquals("Corrupt concert snapshot: dictionary index -1", index.getMessage());
+    }
+
+    @Test
+    void rejectsOverlongVarint() {
+        IOException error = assertThrows(IOException.class, () -> readBody(SnapshotFormat.TAG_END,
+            0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x00));
+        assertEquals("Corrupt concert snapshot: varint longer than 10 bytes", error.getMessage());
+    }
+
+    @Test
+    void rejectsTruncatedString() {
+        // 제목 길이 4바이트라고 기록했지만 2바이트만 있음
+        assertThrows(EOFException.class, () -> readBody(SnapshotFormat.TAG_ROW, 0, 10, 'a', 'b'));
+    }
+
+    @Test
+    void writerRejectsStringsReaderWouldRefuse() throws IOException {
+        String tooLong = "a".repeat(SnapshotFormat.MAX_STRING_BYTES + 1);
+        try (SnapshotWriter writer = new SnapshotWriter(new ByteArrayOutputStream())) {
+            assertThrows(IOException.class, () -> writer.write(row("a", tooLong, "V", DATE)));
+        }
+        List<SnapshotRow> longest = List.of(row("a", "a".repeat(SnapshotFormat.MAX_STRING_BYTES), "V", DATE));
+        assertEquals(longest, roundTrip(longest));
+    }
+
+    @Test
+    void rejectsBadMagic() throws IOException {
+        byte[] encoded = encode(List.of(row("a", "X", "V", DATE)));
+        encoded[0] = 'X';
+
+        IOException error = assertThrows(IOException.class,
+            () -> new SnapshotReader(new ByteArrayInputStream(encoded)));
+        assertEquals("Not a concert snapshot", error.getMessage());
+    }
+
+    @Test
+    void rejectsUnsupportedVersion() throws IOException {
+        byte[] encoded = encode(List.of(row("a", "X", "V", DATE)));
+        encoded[SnapshotFormat.MAGIC.length] = (byte) (SnapshotFormat.VERSION + 1);
+
+        assertThrows(IOException.class, () -> new SnapshotReader(new ByteArrayInputStream(encoded)));
+    }
+
+    private static SnapshotRow row(String title, String artist, String venue, LocalDate date) {
+        return new SnapshotRow(title, artist, venue, date, null, 10000, null,
+            "https://example.com/" + title, "Interpark", null);
+    }
+
+    /**
+     * 헤더 뒤에 주어진 본문 바이트를 압축해 붙인 스냅샷을 끝까지 읽음
+     */
+    private static void readBody(int... body) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(SnapshotFormat.MAGIC);
+        bytes.write(SnapshotFormat.VERSION);
+        bytes.write(SnapshotFormat.COMPRESSION_DEFLATE);
+        try (DeflaterOutputStream out = new DeflaterOutputStream(bytes)) {
+            for (int b : body) {
+                out.write(b);
+            }
+        }
+        decode(bytes.toByteArray());
+    }
+
+    private static List<SnapshotRow> roundTrip(List<SnapshotRow> rows) throws IOException {
+        return decode(encode(rows));
+    }
+
+    private static byte[] encode(List<SnapshotRow> rows) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (SnapshotWriter writer = new SnapshotWriter(bytes)) {
+            for (SnapshotRow row : rows) {
+                writer.write(row);
+            }
+            assertEquals(rows.size(), writer.getRows());
+        }
+        return bytes.toByteArray();
+    }
+
+    private static List<SnapshotRow> decode(byte[] encoded) throws IOException {
+        List<SnapshotRow> rows = new ArrayList<>();
+        try (SnapshotReader reader = new SnapshotReader(new ByteArrayInputStream(encoded))) {
+            SnapshotRow row;
+            while ((row = reader.read()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}